@@ -0,0 +1,247 @@
+package io.github.steaf23.bingoreloaded;
+
+import io.github.steaf23.bingoreloaded.cards.CardSize;
+import io.github.steaf23.bingoreloaded.data.ConfigData;
+import io.github.steaf23.bingoreloaded.gameloop.BingoGame;
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.gui.EffectOptionFlags;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
+import io.github.steaf23.bingoreloaded.player.team.TeamManager;
+import io.github.steaf23.bingoreloaded.settings.BingoGamemode;
+import io.github.steaf23.bingoreloaded.settings.BingoSettings;
+import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.statistics.BingoStatistic;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scoreboard.Team;
+import sun.misc.Unsafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Lightweight stand-ins for the Bukkit types used by the benchmarked code, so that benchmarks can run without a Minecraft server.
+ * Every stand-in only answers the calls needed by the benchmarks, all other methods use their default implementation or return null, 0 or false.
+ * Scheduled tasks are never run and called events are ignored.
+ */
+public class BenchmarkServer
+{
+    public static final String WORLD_NAME = "world";
+
+    private static final Map<UUID, Player> players = new ConcurrentHashMap<>();
+    private static final PluginManager pluginManager = stub(PluginManager.class, (method, args) -> null);
+    private static final BukkitScheduler scheduler = stub(BukkitScheduler.class, (method, args) -> null);
+    private static final ConsoleCommandSender console = stub(ConsoleCommandSender.class, (method, args) -> null);
+    private static final World world = stub(World.class, (method, args) -> method.getName().equals("getName") ? WORLD_NAME : null);
+    private static boolean installed = false;
+    private static boolean pluginInstalled = false;
+
+    /**
+     * Installs the stand-in server.
+     */
+    public static synchronized void install() {
+        if (installed)
+            return;
+
+        Bukkit.setServer(stub(Server.class, (method, args) -> switch (method.getName()) {
+            case "getLogger" -> Logger.getLogger("BenchmarkServer");
+            case "getName", "getVersion", "getBukkitVersion" -> "benchmark";
+            case "getPlayer" -> args[0] instanceof UUID id ? players.get(id) : null;
+            case "getPluginManager" -> pluginManager;
+            case "getScheduler" -> scheduler;
+            case "getConsoleSender" -> console;
+            default -> null;
+        }));
+        installed = true;
+    }
+
+    /**
+     * Installs the stand-in server and a plugin instance that keeps its data files in a temporary folder,
+     * so that cards and task lists get read from the default data files the same way they are on a server.
+     */
+    public static synchronized void installPlugin() {
+        install();
+        if (pluginInstalled)
+            return;
+
+        ConfigurationSerialization.registerClass(ItemTask.class);
+        ConfigurationSerialization.registerClass(AdvancementTask.class);
+        ConfigurationSerialization.registerClass(StatisticTask.class);
+        ConfigurationSerialization.registerClass(BingoStatistic.class);
+
+        Path dataFolder;
+        try {
+            dataFolder = Files.createTempDirectory("bingoreloaded-benchmark");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteFolder(dataFolder)));
+
+        // The plugin can only be constructed by the server's plugin loader, so only the fields needed to read resources and data files are set.
+        BingoReloaded plugin = allocate(BingoReloaded.class);
+        setField(plugin, JavaPlugin.class, "dataFolder", dataFolder.toFile());
+        setField(plugin, JavaPlugin.class, "classLoader", BingoReloaded.class.getClassLoader());
+        setField(null, BingoReloaded.class, "instance", plugin);
+        pluginInstalled = true;
+    }
+
+    /**
+     * @return an online player in the benchmark world, that can be found using Bukkit.getPlayer().
+     */
+    public static Player createPlayer(String name) {
+        UUID id = UUID.nameUUIDFromBytes(name.getBytes());
+        Player player = stub(Player.class, (method, args) -> switch (method.getName()) {
+            case "getUniqueId" -> id;
+            case "getName", "getDisplayName" -> name;
+            case "getWorld" -> world;
+            default -> null;
+        });
+        players.put(id, player);
+        return player;
+    }
+
+    public static Team createTeam(String name) {
+        return stub(Team.class, (method, args) -> method.getName().equals("getName") ? name : null);
+    }
+
+    /**
+     * @return an item entity lying in the benchmark world.
+     */
+    public static Item createItem(ItemStack stack) {
+        return stub(Item.class, (method, args) -> switch (method.getName()) {
+            case "getItemStack" -> stack;
+            case "getWorld" -> world;
+            default -> null;
+        });
+    }
+
+    /**
+     * @return the plugin config using all default values, except that task items are not removed from the player,
+     * since that requires dropping the rest of the items in the world.
+     */
+    public static ConfigData createConfig() {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("removeTaskItems", false);
+        return new ConfigData(config);
+    }
+
+    /**
+     * @return a session for the benchmark world in which the given teams take part.
+     * Sessions can only be created on a running server, so only the world name and team manager of the session are set.
+     */
+    public static BingoSession createSession(BingoTeamContainer teams) {
+        BingoSession session = allocate(BingoSession.class);
+        setField(session, BingoSession.class, "worldName", WORLD_NAME);
+        setField(session, BingoSession.class, "teamManager",
+                stub(TeamManager.class, (method, args) -> method.getName().equals("getActiveTeams") ? teams : null));
+        return session;
+    }
+
+    /**
+     * Makes the session run a new game, without starting its timers, handing out cards or teleporting any players.
+     * The cards of the teams have to be given to the game's card event manager and statistic tracker by the benchmark itself.
+     */
+    public static BingoGame startGame(BingoSession session, ConfigData config) {
+        BingoSettings settings = new BingoSettings("default_card", BingoGamemode.REGULAR, CardSize.X5, 0, null,
+                EnumSet.noneOf(EffectOptionFlags.class), 5, false, 20);
+        BingoGame game = new BingoGame(session, settings, config, List.of());
+        setField(session, BingoSession.class, "phase", game);
+        return game;
+    }
+
+    private static <T> T stub(Class<T> type, BiFunction<Method, Object[], Object> answer) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            }
+            Object result = answer.apply(method, args);
+            if (result == null && method.isDefault())
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            return result == null ? defaultValue(method.getReturnType()) : result;
+        });
+        return type.cast(stub);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class)
+            return false;
+        if (type == int.class)
+            return 0;
+        if (type == long.class)
+            return 0L;
+        if (type == double.class)
+            return 0.0;
+        if (type == float.class)
+            return 0.0f;
+        if (type == short.class)
+            return (short) 0;
+        if (type == byte.class)
+            return (byte) 0;
+        if (type == char.class)
+            return (char) 0;
+        return null;
+    }
+
+    /**
+     * Creates an instance without calling any of its constructors, for classes that can only be constructed on a running server.
+     */
+    private static <T> T allocate(Class<T> type) {
+        try {
+            Field unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            return type.cast(((Unsafe) unsafeField.get(null)).allocateInstance(type));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create " + type.getSimpleName(), e);
+        }
+    }
+
+    private static void setField(Object target, Class<?> declaringClass, String name, Object value) {
+        try {
+            Field field = declaringClass.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not set " + declaringClass.getSimpleName() + "." + name, e);
+        }
+    }
+
+    private static void deleteFolder(Path folder) {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException ignored) {
+        }
+    }
+}
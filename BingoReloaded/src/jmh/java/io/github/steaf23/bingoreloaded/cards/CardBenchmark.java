@@ -0,0 +1,124 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.BenchmarkServer;
+import io.github.steaf23.bingoreloaded.gameloop.BingoGame;
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.player.BingoPlayer;
+import io.github.steaf23.bingoreloaded.player.team.BenchmarkTeams;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import net.md_5.bungee.api.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks generating cards from the default card data and the checks done every time a player could complete a task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardBenchmark
+{
+    @Param({"X1", "X2", "X3", "X4", "X5", "X6"})
+    public CardSize size;
+
+    // Card that gets a new layout every time one is generated.
+    private BingoCard generatedCard;
+    // Card on which every other task is completed, so that no line is complete and every line has to be checked.
+    private BingoCard halfCompletedCard;
+    // Card on which the player keeps completing item tasks.
+    private BingoCard card;
+    private CardLayout layout;
+    private BingoPlayer player;
+    private BingoTeam team;
+    private BingoGame game;
+    private EntityPickupItemEvent[] pickupsOnCard;
+    private EntityPickupItemEvent pickupNotOnCard;
+    private int nextPickup;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.installPlugin();
+
+        generatedCard = new BingoCard(null, size);
+        generatedCard.generateCard("default_card", 1, false, true);
+        layout = generatedCard.getLayout();
+
+        BingoTeamContainer teams = BenchmarkTeams.createContainer();
+        BingoSession session = BenchmarkServer.createSession(teams);
+        Player bukkitPlayer = BenchmarkServer.createPlayer("player");
+        player = new BingoPlayer(bukkitPlayer, session);
+        team = new BingoTeam(BenchmarkServer.createTeam("benchmark"), ChatColor.RED, "benchmark");
+        team.addMember(player);
+        teams.addTeam(team);
+        game = BenchmarkServer.startGame(session, BenchmarkServer.createConfig());
+
+        halfCompletedCard = new BingoCard(null, size);
+        halfCompletedCard.setLayout(layout);
+        for (int i = 0; i < size.fullCardSize; i += 2) {
+            halfCompletedCard.completeTask(i, player, 0);
+        }
+
+        card = new BingoCard(null, size);
+        card.setLayout(layout);
+        team.card = card;
+
+        List<EntityPickupItemEvent> pickups = new ArrayList<>();
+        for (TaskData task : layout.tasks) {
+            if (task instanceof ItemTask itemTask) {
+                ItemStack stack = new ItemStack(itemTask.material(), itemTask.count());
+                pickups.add(new EntityPickupItemEvent(bukkitPlayer, BenchmarkServer.createItem(stack), 0));
+            }
+        }
+        pickupsOnCard = pickups.toArray(EntityPickupItemEvent[]::new);
+        pickupNotOnCard = new EntityPickupItemEvent(bukkitPlayer, BenchmarkServer.createItem(new ItemStack(Material.BEDROCK)), 0);
+        nextPickup = 0;
+    }
+
+    @Benchmark
+    public CardLayout generateCard() {
+        generatedCard.generateCard("default_card", 1, false, true);
+        return generatedCard.getLayout();
+    }
+
+    @Benchmark
+    public boolean hasBingo() {
+        return halfCompletedCard.hasBingo(team);
+    }
+
+    /**
+     * Picks up the item of the next item task on the card, completing that task.
+     * Once every item task has been completed, the card is reset so the tasks can be completed again.
+     */
+    @Benchmark
+    public int pickUpItemOnCard() {
+        if (pickupsOnCard.length == 0)
+            return 0;
+
+        card.onPlayerCollectItem(pickupsOnCard[nextPickup], player, game);
+        nextPickup++;
+        if (nextPickup == pickupsOnCard.length) {
+            nextPickup = 0;
+            card.setLayout(layout);
+        }
+        return team.getCompleteCount();
+    }
+
+    @Benchmark
+    public int pickUpItemNotOnCard() {
+        card.onPlayerCollectItem(pickupNotOnCard, player, game);
+        return team.getCompleteCount();
+    }
+}
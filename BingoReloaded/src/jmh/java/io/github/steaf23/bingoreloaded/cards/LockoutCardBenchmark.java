@@ -0,0 +1,79 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.BenchmarkServer;
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.player.BingoPlayer;
+import io.github.steaf23.bingoreloaded.player.team.BenchmarkTeams;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import net.md_5.bungee.api.ChatColor;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks checking for a winner in lockout, which has to compare the team against the leading and losing teams.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LockoutCardBenchmark
+{
+    @Param({"2", "8", "30"})
+    public int teamCount;
+
+    private LockoutBingoCard card;
+    private List<BingoTeam> teams;
+    private int nextTeam;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+
+        BingoTeamContainer container = BenchmarkTeams.createContainer();
+        BingoSession session = BenchmarkServer.createSession(container);
+        teams = new ArrayList<>();
+        List<BingoPlayer> players = new ArrayList<>();
+        for (int i = 0; i < teamCount; i++) {
+            BingoTeam team = new BingoTeam(BenchmarkServer.createTeam("team_" + i), ChatColor.RED, "team_" + i);
+            BingoPlayer player = new BingoPlayer(BenchmarkServer.createPlayer("player_" + i), session);
+            team.addMember(player);
+            container.addTeam(team);
+            teams.add(team);
+            players.add(player);
+        }
+
+        CardSize size = CardSize.X5;
+        Material[] materials = Arrays.stream(Material.values()).filter(m -> !m.isLegacy() && m.isItem() && !m.isAir()).toArray(Material[]::new);
+        List<TaskData> tasks = new ArrayList<>();
+        for (int i = 0; i < size.fullCardSize; i++) {
+            tasks.add(new ItemTask(materials[i], 1));
+        }
+        // No team gets far enough ahead to drop the others, so the card never has to send messages to the session.
+        card = new LockoutBingoCard(null, size, session, container);
+        card.setLayout(new CardLayout(size, tasks));
+        teams.forEach(team -> team.card = card);
+
+        // Let the first teams complete a task each.
+        for (int i = 0; i < Math.min(teamCount, size.fullCardSize / 2); i++) {
+            card.completeTask(i, players.get(i), 0);
+        }
+        nextTeam = 0;
+    }
+
+    @Benchmark
+    public boolean hasBingo() {
+        BingoTeam team = teams.get(nextTeam);
+        nextTeam = (nextTeam + 1) % teams.size();
+        return card.hasBingo(team);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.steaf23.bingoreloaded.event;
+
+import io.github.steaf23.bingoreloaded.BenchmarkServer;
+import io.github.steaf23.bingoreloaded.cards.BingoCard;
+import io.github.steaf23.bingoreloaded.cards.CardLayout;
+import io.github.steaf23.bingoreloaded.cards.CardSize;
+import io.github.steaf23.bingoreloaded.cards.LockoutBingoCard;
+import io.github.steaf23.bingoreloaded.gameloop.BingoGame;
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.player.BingoPlayer;
+import io.github.steaf23.bingoreloaded.player.team.BenchmarkTeams;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import net.md_5.bungee.api.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks dispatching item pickups from the event listener through the card event manager to the card of the player's team.
+ * The time should not depend on the amount of teams in the game, whether every team has its own card or all teams share a lockout card.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardEventManagerBenchmark
+{
+    @Param({"2", "8", "30"})
+    public int teamCount;
+
+    @Param({"false", "true"})
+    public boolean lockout;
+
+    private BingoEventListener listener;
+    private EntityPickupItemEvent[] pickupsNotOnCard;
+    private EntityPickupItemEvent[] pickupsOfCompletedTask;
+    private int nextPlayer;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+
+        CardSize size = CardSize.X5;
+        Material[] materials = Arrays.stream(Material.values()).filter(m -> !m.isLegacy() && m.isItem() && !m.isAir()).toArray(Material[]::new);
+        List<TaskData> tasks = new ArrayList<>();
+        for (int i = 0; i < size.fullCardSize; i++) {
+            tasks.add(new ItemTask(materials[i], 1));
+        }
+        CardLayout layout = new CardLayout(size, tasks);
+
+        BingoTeamContainer container = BenchmarkTeams.createContainer();
+        BingoSession session = BenchmarkServer.createSession(container);
+        List<BingoTeam> teams = new ArrayList<>();
+        List<BingoPlayer> players = new ArrayList<>();
+        pickupsNotOnCard = new EntityPickupItemEvent[teamCount];
+        pickupsOfCompletedTask = new EntityPickupItemEvent[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            Player player = BenchmarkServer.createPlayer("player_" + i);
+            BingoPlayer bingoPlayer = new BingoPlayer(player, session);
+            BingoTeam team = new BingoTeam(BenchmarkServer.createTeam("team_" + i), ChatColor.RED, "team_" + i);
+            team.addMember(bingoPlayer);
+            container.addTeam(team);
+            teams.add(team);
+            players.add(bingoPlayer);
+
+            pickupsNotOnCard[i] = new EntityPickupItemEvent(player, BenchmarkServer.createItem(new ItemStack(Material.BEDROCK)), 0);
+            pickupsOfCompletedTask[i] = new EntityPickupItemEvent(player, BenchmarkServer.createItem(new ItemStack(materials[0])), 0);
+        }
+
+        // Nobody completes enough tasks to drop a team from the lockout card, so it never has to send messages to the session.
+        LockoutBingoCard lockoutCard = lockout ? new LockoutBingoCard(null, size, session, container) : null;
+        if (lockoutCard != null) {
+            lockoutCard.setLayout(layout);
+        }
+        for (int i = 0; i < teamCount; i++) {
+            BingoTeam team = teams.get(i);
+            if (lockoutCard != null) {
+                team.card = lockoutCard;
+            } else {
+                team.card = new BingoCard(null, size);
+                team.card.setLayout(layout);
+            }
+            // On the lockout card only the first team can complete the task, after that it is completed for every team.
+            team.card.completeTask(0, players.get(i), 0);
+        }
+
+        BingoGame game = BenchmarkServer.startGame(session, BenchmarkServer.createConfig());
+        game.getCardEventManager().setTeamCards(teams);
+        listener = new BingoEventListener(world -> session, false, false);
+        nextPlayer = 0;
+    }
+
+    @Benchmark
+    public void pickUpItemNotOnCard() {
+        listener.handlePlayerPickupItem(pickupsNotOnCard[nextPlayer]);
+        nextPlayer = (nextPlayer + 1) % teamCount;
+    }
+
+    @Benchmark
+    public void pickUpItemOfCompletedTask() {
+        listener.handlePlayerPickupItem(pickupsOfCompletedTask[nextPlayer]);
+        nextPlayer = (nextPlayer + 1) % teamCount;
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.steaf23.bingoreloaded.player.team;
+
+/**
+ * Creates team containers for benchmarks, which normally can only be created by a team manager.
+ */
+public class BenchmarkTeams
+{
+    public static BingoTeamContainer createContainer() {
+        return new BingoTeamContainer();
+    }
+}
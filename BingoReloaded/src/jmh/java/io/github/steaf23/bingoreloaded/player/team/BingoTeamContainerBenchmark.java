@@ -0,0 +1,56 @@
+package io.github.steaf23.bingoreloaded.player.team;
+
+import io.github.steaf23.bingoreloaded.BenchmarkServer;
+import net.md_5.bungee.api.ChatColor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks looking up the leading team, both on its own and right after a team completed a task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BingoTeamContainerBenchmark
+{
+    @Param({"2", "8", "30"})
+    public int teamCount;
+
+    private BingoTeamContainer container;
+    private List<BingoTeam> teams;
+    private int nextTeam;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+
+        container = new BingoTeamContainer();
+        teams = new ArrayList<>();
+        for (int i = 0; i < teamCount; i++) {
+            BingoTeam team = new BingoTeam(BenchmarkServer.createTeam("team_" + i), ChatColor.RED, "team_" + i);
+            container.addTeam(team);
+            team.setCompleteCount(i % 25);
+            teams.add(team);
+        }
+        nextTeam = 0;
+    }
+
+    @Benchmark
+    public BingoTeam getLeadingTeam() {
+        return container.getLeadingTeam();
+    }
+
+    @Benchmark
+    public BingoTeam completeTaskAndGetLeadingTeam() {
+        BingoTeam team = teams.get(nextTeam);
+        nextTeam = (nextTeam + 1) % teams.size();
+        team.setCompleteCount((team.getCompleteCount() + 1) % 25);
+        return container.getLeadingTeam();
+    }
+}
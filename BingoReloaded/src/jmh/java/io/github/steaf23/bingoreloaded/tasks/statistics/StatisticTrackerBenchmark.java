@@ -0,0 +1,90 @@
+package io.github.steaf23.bingoreloaded.tasks.statistics;
+
+import io.github.steaf23.bingoreloaded.BenchmarkServer;
+import io.github.steaf23.bingoreloaded.cards.BingoCard;
+import io.github.steaf23.bingoreloaded.cards.CardLayout;
+import io.github.steaf23.bingoreloaded.cards.CardSize;
+import io.github.steaf23.bingoreloaded.gameloop.BingoGame;
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.player.BingoPlayer;
+import io.github.steaf23.bingoreloaded.player.team.BenchmarkTeams;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
+import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import net.md_5.bungee.api.ChatColor;
+import org.bukkit.Statistic;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerStatisticIncrementEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks handling statistic increments, for statistics that are on the card and for statistics that are not tracked at all.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticTrackerBenchmark
+{
+    @Param({"1", "10", "100"})
+    public int playerCount;
+
+    private BingoGame game;
+    private StatisticTracker tracker;
+    private PlayerStatisticIncrementEvent[] trackedEvents;
+    private PlayerStatisticIncrementEvent[] untrackedEvents;
+    private int nextPlayer;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.install();
+
+        List<TaskData> tasks = new ArrayList<>();
+        Statistic[] statistics = {Statistic.JUMP, Statistic.ANIMALS_BRED, Statistic.DEATHS, Statistic.FISH_CAUGHT, Statistic.RAID_WIN};
+        for (Statistic statistic : statistics) {
+            // Targets are too high to complete during the benchmark, completed statistics would stop being tracked.
+            tasks.add(new StatisticTask(new BingoStatistic(statistic), 1_000_000));
+        }
+        CardLayout layout = new CardLayout(CardSize.X5, tasks);
+
+        BingoTeamContainer teams = BenchmarkTeams.createContainer();
+        BingoSession session = BenchmarkServer.createSession(teams);
+        trackedEvents = new PlayerStatisticIncrementEvent[playerCount];
+        untrackedEvents = new PlayerStatisticIncrementEvent[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            Player player = BenchmarkServer.createPlayer("player_" + i);
+            BingoTeam team = new BingoTeam(BenchmarkServer.createTeam("team_" + i), ChatColor.RED, "team_" + i);
+            team.addMember(new BingoPlayer(player, session));
+            team.card = new BingoCard(null, CardSize.X5);
+            team.card.setLayout(layout);
+            teams.addTeam(team);
+
+            trackedEvents[i] = new PlayerStatisticIncrementEvent(player, Statistic.JUMP, 0, 1);
+            untrackedEvents[i] = new PlayerStatisticIncrementEvent(player, Statistic.LEAVE_GAME, 0, 1);
+        }
+
+        game = BenchmarkServer.startGame(session, BenchmarkServer.createConfig());
+        tracker = game.getStatisticTracker();
+        tracker.start(teams);
+        nextPlayer = 0;
+    }
+
+    @Benchmark
+    public void handleTrackedStatisticIncrement() {
+        tracker.handleStatisticIncrement(trackedEvents[nextPlayer], game);
+        nextPlayer = (nextPlayer + 1) % playerCount;
+    }
+
+    @Benchmark
+    public void handleUntrackedStatisticIncrement() {
+        tracker.handleStatisticIncrement(untrackedEvents[nextPlayer], game);
+        nextPlayer = (nextPlayer + 1) % playerCount;
+    }
+}
@@ -33,6 +33,8 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -47,11 +49,13 @@ public class BingoReloaded extends JavaPlugin
     public static boolean usesPlaceholderAPI = false;
 
     private static BingoReloaded instance;
+    private static final Map<String, YmlDataManager> dataManagers = new ConcurrentHashMap<>();
 
     private ConfigData config;
     private HologramManager hologramManager;
     private HologramPlacer hologramPlacer;
     private SessionManager gameManager;
+    private BingoStatData statData;
 
     public BingoReloaded() {
         reloadConfig();
@@ -77,10 +81,17 @@ public class BingoReloaded extends JavaPlugin
         ConfigurationSerialization.registerClass(TeamData.TeamTemplate.class);
 
         this.config = new ConfigData(getConfig());
+        if (config.asyncDataSaving) {
+            YmlDataManager.enableAsyncSaving();
+        }
 
         BingoTranslation.setLanguage(createYmlDataManager(config.language).getConfig(), createYmlDataManager("languages/en_us.yml").getConfig());
         Message.log("" + ChatColor.GREEN + BingoTranslation.CHANGED_LANGUAGE.translate());
 
+        if (config.savePlayerStatistics) {
+            this.statData = new BingoStatData(this);
+        }
+
         this.hologramManager = new HologramManager();
         this.hologramPlacer = new HologramPlacer(hologramManager);
 
@@ -128,14 +139,21 @@ public class BingoReloaded extends JavaPlugin
                 .replace("_the_end", "");
     }
 
+    /**
+     * @return the data manager for the file at filepath, all callers share the same data manager (and loaded config) for each file.
+     */
     public static YmlDataManager createYmlDataManager(String filepath) {
-        return new YmlDataManager(instance, filepath);
+        return dataManagers.computeIfAbsent(filepath, path -> new YmlDataManager(instance, path));
     }
 
     public void onDisable() {
         if (gameManager != null) {
             gameManager.onDisable();
         }
+        if (statData != null) {
+            statData.flush();
+        }
+        YmlDataManager.flushAll();
     }
 
     public ConfigData config() {
@@ -146,11 +164,16 @@ public class BingoReloaded extends JavaPlugin
         return hologramManager;
     }
 
+    /**
+     * @return the player statistics, or null if savePlayerStatistics is disabled.
+     */
+    public BingoStatData statData() {
+        return statData;
+    }
+
     public static void incrementPlayerStat(Player player, BingoStatType stat) {
-        boolean savePlayerStatistics = instance.config.savePlayerStatistics;
-        if (savePlayerStatistics) {
-            BingoStatData statsData = new BingoStatData();
-            statsData.incrementPlayerStat(player, stat);
+        if (instance.statData != null) {
+            instance.statData.incrementPlayerStat(player, stat);
         }
     }
 
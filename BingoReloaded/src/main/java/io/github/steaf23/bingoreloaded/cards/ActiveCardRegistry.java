@@ -0,0 +1,91 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.tasks.statistics.BingoStatistic;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Statistic;
+import org.bukkit.entity.EntityType;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Keeps track of the card layouts of all running games on the server.
+ * Event listeners can use this to throw away events that cannot complete a task on any card, before looking up the session they belong to.
+ * Lookups read from immutable snapshots that only get rebuilt when a game starts or ends.
+ */
+public class ActiveCardRegistry
+{
+    private static final Map<Object, List<CardLayout>> activeLayouts = new HashMap<>();
+
+    private static volatile Set<NamespacedKey> activeAdvancements = Set.of();
+    private static volatile Set<Statistic> activeStatistics = Collections.unmodifiableSet(EnumSet.noneOf(Statistic.class));
+    // Materials and entity types that are tracked for each statistic that has a material or entity component.
+    private static volatile Map<Statistic, Set<Material>> activeStatisticMaterials = Map.of();
+    private static volatile Map<Statistic, Set<EntityType>> activeStatisticEntities = Map.of();
+
+    /**
+     * @param owner object that owns the layouts (i.e. the game), used to unregister the layouts later.
+     * @param layouts the layouts of all cards used by the owner.
+     */
+    public static synchronized void register(Object owner, Collection<CardLayout> layouts) {
+        activeLayouts.put(owner, List.copyOf(layouts));
+        rebuild();
+    }
+
+    public static synchronized void unregister(Object owner) {
+        if (activeLayouts.remove(owner) != null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * @return true if the advancement is a task on the card of any running game.
+     */
+    public static boolean isAdvancementActive(NamespacedKey advancement) {
+        return activeAdvancements.contains(advancement);
+    }
+
+    /**
+     * @return true if the statistic (with the given material or entity type) is a task on the card of any running game.
+     */
+    public static boolean isStatisticActive(Statistic statistic, @Nullable Material material, @Nullable EntityType entityType) {
+        if (!activeStatistics.contains(statistic))
+            return false;
+
+        if (material != null) {
+            Set<Material> materials = activeStatisticMaterials.get(statistic);
+            return materials != null && materials.contains(material);
+        }
+        if (entityType != null) {
+            Set<EntityType> entities = activeStatisticEntities.get(statistic);
+            return entities != null && entities.contains(entityType);
+        }
+        return true;
+    }
+
+    private static void rebuild() {
+        Set<NamespacedKey> advancements = new HashSet<>();
+        Set<Statistic> statistics = EnumSet.noneOf(Statistic.class);
+        Map<Statistic, Set<Material>> statisticMaterials = new EnumMap<>(Statistic.class);
+        Map<Statistic, Set<EntityType>> statisticEntities = new EnumMap<>(Statistic.class);
+        for (List<CardLayout> layouts : activeLayouts.values()) {
+            for (CardLayout layout : layouts) {
+                advancements.addAll(layout.getAdvancements());
+                for (BingoStatistic statistic : layout.getStatistics()) {
+                    statistics.add(statistic.stat());
+                    if (statistic.hasMaterialComponent()) {
+                        statisticMaterials.computeIfAbsent(statistic.stat(), stat -> EnumSet.noneOf(Material.class)).add(statistic.materialType());
+                    }
+                    if (statistic.hasEntityComponent()) {
+                        statisticEntities.computeIfAbsent(statistic.stat(), stat -> EnumSet.noneOf(EntityType.class)).add(statistic.entityType());
+                    }
+                }
+            }
+        }
+        activeAdvancements = Set.copyOf(advancements);
+        activeStatistics = Collections.unmodifiableSet(statistics);
+        activeStatisticMaterials = Collections.unmodifiableMap(statisticMaterials);
+        activeStatisticEntities = Collections.unmodifiableMap(statisticEntities);
+    }
+}
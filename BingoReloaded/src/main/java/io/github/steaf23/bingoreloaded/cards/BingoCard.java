@@ -2,9 +2,7 @@ package io.github.steaf23.bingoreloaded.cards;
 
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
-import io.github.steaf23.bingoreloaded.data.BingoCardData;
 import io.github.steaf23.bingoreloaded.data.BingoTranslation;
-import io.github.steaf23.bingoreloaded.data.TaskListData;
 import io.github.steaf23.bingoreloaded.event.BingoCardTaskCompleteEvent;
 import io.github.steaf23.bingoreloaded.event.BingoStatisticCompletedEvent;
 import io.github.steaf23.bingoreloaded.gameloop.BingoGame;
@@ -17,6 +15,7 @@ import io.github.steaf23.bingoreloaded.tasks.*;
 import io.github.steaf23.bingoreloaded.tasks.statistics.BingoStatistic;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.inventory.ClickType;
@@ -25,154 +24,115 @@ import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.player.PlayerAdvancementDoneEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerStatisticIncrementEvent;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
+import javax.annotation.Nullable;
 import java.util.*;
 
 
 public class BingoCard
 {
     public final CardSize size;
-    public List<BingoTask> tasks;
 
-    protected final CardMenu menu;
+    protected final MenuManager menuManager;
+    private CardMenu menu;
+    private String infoName;
+    private String[] infoDescription;
 
-    private static final TaskData DEFAULT_TASK = new ItemTask(Material.DIRT, 1);
+    // Shared by all copies of this card, only the progress below is kept per card, indexed by the position of each task in the layout.
+    private CardLayout layout;
+    private final CardCompletionState completion;
 
     public BingoCard(MenuManager menuManager, CardSize size) {
         this.size = size;
-        this.tasks = new ArrayList<>();
-        this.menu = new CardMenu(menuManager, size, BingoTranslation.CARD_TITLE.translate());
-        menu.setInfo(BingoTranslation.INFO_REGULAR_NAME.translate(),
+        this.menuManager = menuManager;
+        this.menu = null;
+        this.layout = new CardLayout(size, List.of());
+        this.completion = new CardCompletionState(size);
+        setInfo(BingoTranslation.INFO_REGULAR_NAME.translate(),
                 BingoTranslation.INFO_REGULAR_DESC.translate().split("\\n"));
     }
 
     /**
-     * Generating a bingo card has a few steps:
-     * - Create task shuffler
-     * - Create a ticketlist. This list contains a list name for each task on the card,
-     * based on how often an item from that list should appear on the card.
-     * - Using the ticketlist, pick a random task from each ticketlist entry to put on the card.
-     * - Finally shuffle the tasks and add them to the card.
-     * If the final task count is lower than the amount of spaces available on the card, it will be filled up using default tasks.
+     * Sets the info item shown in the card menu.
+     * The menu itself only gets created once a player wants to see the card.
+     */
+    protected void setInfo(String name, String... description) {
+        this.infoName = name;
+        this.infoDescription = description;
+        if (menu != null) {
+            menu.setInfo(name, description);
+        }
+    }
+
+    /**
+     * Generates a new layout for this card from the card with the given name, see {@link CardGenerator#generate(CardSize, int)}.
      *
      * @param cardName
      * @param seed
      */
     public void generateCard(String cardName, int seed, boolean withAdvancements, boolean withStatistics) {
-        BingoCardData cardsData = new BingoCardData();
-        TaskListData listsData = cardsData.lists();
-        // Create shuffler
-        Random shuffler;
-        if (seed == 0) {
-            shuffler = new Random();
-        } else {
-            shuffler = new Random(seed);
-        }
-
-        // Create ticketList
-        List<String> ticketList = new ArrayList<>();
-        for (String listName : cardsData.getListsSortedByMin(cardName)) {
-            if (listsData.getTasks(listName, withStatistics, withAdvancements).size() == 0) // Skip empty task lists.
-            {
-                continue;
-            }
-
-            int proportionalMin = Math.max(1, (int) ((float) cardsData.getListMin(cardName, listName) * size.fullCardSize / CardSize.X5.fullCardSize));
-            for (int i = 0; i < proportionalMin; i++) {
-                ticketList.add(listName);
-            }
-        }
-        List<String> overflowList = new ArrayList<>();
-        for (String listName : cardsData.getListNames(cardName)) {
-            int proportionalMin = Math.max(1, (int) ((float) cardsData.getListMin(cardName, listName) * size.fullCardSize / CardSize.X5.fullCardSize));
-            int proportionalMax = (int) ((float) cardsData.getListMax(cardName, listName) * size.fullCardSize / CardSize.X5.fullCardSize);
+        setLayout(CardGenerator.load(cardName, withAdvancements, withStatistics).generate(size, seed));
+    }
 
-            for (int i = 0; i < proportionalMax - proportionalMin; i++) {
-                overflowList.add(listName);
-            }
-        }
-        Collections.shuffle(overflowList, shuffler);
-        ticketList.addAll(overflowList);
-        if (ticketList.size() > size.fullCardSize)
-            ticketList = ticketList.subList(0, size.fullCardSize);
-
-        // Pick random tasks
-        List<TaskData> newTasks = new ArrayList<>();
-        Map<String, List<TaskData>> allTasks = new HashMap<>();
-        for (String listName : ticketList) {
-            if (!allTasks.containsKey(listName)) {
-                List<TaskData> listTasks = new ArrayList<>(listsData.getTasks(listName, withStatistics, withAdvancements));
-                if (listTasks.size() == 0) // Skip empty task lists.
-                {
-                    continue;
-                }
-                Collections.shuffle(listTasks, shuffler);
-                allTasks.put(listName, listTasks);
-            }
-            newTasks.add(allTasks.get(listName).remove(allTasks.get(listName).size() - 1));
-        }
-        while (newTasks.size() < size.fullCardSize) {
-            newTasks.add(DEFAULT_TASK);
-        }
-        newTasks = newTasks.subList(0, size.fullCardSize);
+    /**
+     * Replaces all tasks on this card with the (uncompleted) tasks of the given layout.
+     */
+    public void setLayout(CardLayout layout) {
+        this.layout = layout;
+        completion.reset();
+    }
 
-        // Shuffle and add tasks to the card.
-        Collections.shuffle(newTasks, shuffler);
-        newTasks.forEach(item ->
-                tasks.add(new BingoTask(item))
-        );
+    public CardLayout getLayout() {
+        return layout;
     }
 
-    public void showInventory(Player player) {
-        menu.show(player, tasks);
+    public int getTaskCount() {
+        return layout.tasks.size();
     }
 
-    public boolean hasBingo(BingoTeam team) {
-        //check for rows and columns
-        for (int y = 0; y < size.size; y++) {
-            boolean completedRow = true;
-            boolean completedCol = true;
-            for (int x = 0; x < size.size; x++) {
-                int indexRow = size.size * y + x;
-                Optional<BingoParticipant> completedBy = tasks.get(indexRow).getCompletedBy();
-                if (completedBy.isEmpty() || !team.getMembers().contains(completedBy.get())) {
-                    completedRow = false;
-                }
+    /**
+     * @return The task at the given index together with its progress on this card.
+     * The returned task does not change when the card's progress changes afterwards.
+     */
+    public BingoTask getTask(int taskIndex) {
+        return new BingoTask(layout.tasks.get(taskIndex),
+                completion.getCompletedBy(taskIndex),
+                completion.getCompletedAt(taskIndex),
+                completion.isVoided(taskIndex));
+    }
 
-                int indexCol = size.size * x + y;
-                completedBy = tasks.get(indexCol).getCompletedBy();
-                if (completedBy.isEmpty() || !team.getMembers().contains(completedBy.get())) {
-                    completedCol = false;
-                }
-            }
+    /**
+     * Completes the task at the given index on this card and keeps track of the team's progress.
+     *
+     * @return true if the task could be completed by the participant.
+     */
+    public boolean completeTask(int taskIndex, BingoParticipant participant, long gameTime) {
+        if (!completion.completeTask(taskIndex, participant, gameTime))
+            return false;
 
-            if (completedRow || completedCol) {
-                return true;
-            }
+        BingoTeam team = participant.getTeam();
+        if (team != null) {
+            team.setCompleteCount(completion.getCompleteCount(team));
         }
+        return true;
+    }
 
-        // check for diagonals
-        boolean completedDiagonal1 = true;
-        for (int idx = 0; idx < size.fullCardSize; idx += size.size + 1) {
-            Optional<BingoParticipant> completedBy = tasks.get(idx).getCompletedBy();
-            if (completedBy.isEmpty() || !team.getMembers().contains(completedBy.get())) {
-                completedDiagonal1 = false;
-                break;
-            }
-        }
+    protected void voidTask(int taskIndex) {
+        completion.voidTask(taskIndex);
+    }
 
-        boolean completedDiagonal2 = true;
-        for (int idx = 0; idx < size.fullCardSize; idx += size.size - 1) {
-            if (idx != 0 && idx != size.fullCardSize - 1) {
-                Optional<BingoParticipant> completedBy = tasks.get(idx).getCompletedBy();
-                if (completedBy.isEmpty() || !team.getMembers().contains(completedBy.get())) {
-                    completedDiagonal2 = false;
-                    break;
-                }
-            }
+    public void showInventory(Player player) {
+        if (menu == null) {
+            menu = new CardMenu(menuManager, size, BingoTranslation.CARD_TITLE.translate());
+            menu.setInfo(infoName, infoDescription);
         }
-        return completedDiagonal1 || completedDiagonal2;
+        menu.show(player, this);
+    }
+
+    public boolean hasBingo(BingoTeam team) {
+        return completion.hasBingo(team);
     }
 
     /**
@@ -180,46 +140,81 @@ public class BingoCard
      * @return The amount of completed items for the given team.
      */
     public int getCompleteCount(BingoTeam team) {
-        int count = 0;
-        for (var task : tasks) {
-            if (task.getCompletedBy().isPresent() && team.getMembers().contains(task.getCompletedBy().get()))
-                count++;
-        }
+        return completion.getCompleteCount(team);
+    }
 
-        return count;
+    /**
+     * @return The amount of tasks on this card that have been completed by any team.
+     */
+    public int getTotalCompleteCount() {
+        return completion.getTotalCompleteCount();
+    }
+
+    /**
+     * @param team The team.
+     * @return true if the team has completed every task on this card.
+     */
+    public boolean hasCompletedCard(BingoTeam team) {
+        return completion.hasCompletedCard(team);
+    }
+
+    /**
+     * @param team The team.
+     * @return Bit mask of all tasks completed by the team, where bit i represents the task at index i of this card.
+     */
+    public long getCompletedMask(BingoTeam team) {
+        return completion.getMask(team);
     }
 
     public BingoCard copy() {
-        BingoCard card = new BingoCard(menu.getMenuManager(), this.size);
-        List<BingoTask> newTasks = new ArrayList<>();
-        for (BingoTask slot : tasks) {
-            newTasks.add(slot.copy());
-        }
-        card.tasks = newTasks;
+        BingoCard card = new BingoCard(menuManager, this.size);
+        card.setLayout(layout);
         return card;
     }
 
     public void onInventoryClick(final InventoryClickEvent event, final BingoPlayer player, final BingoGame game) {
-        Player p = player.sessionPlayer().get();
+        // Taking an item out of a result slot only changes the cursor, in any other case the whole inventory could have changed.
+        boolean fullInventory = event.getSlotType() != InventoryType.SlotType.RESULT || event.getClick() == ClickType.SHIFT_LEFT;
+        game.getCardEventManager().requestInventoryScan(player, game, fullInventory);
+    }
 
-        if (event.getSlotType() == InventoryType.SlotType.RESULT && event.getClick() != ClickType.SHIFT_LEFT) {
-            BingoReloaded.scheduleTask(task -> {
-                ItemStack resultStack = p.getItemOnCursor();
-                completeItemSlot(resultStack, player, game);
-            });
+    /**
+     * Checks the items in the player's inventory for completed tasks.
+     *
+     * @param fullInventory if false, only the item on the player's cursor will be checked.
+     * @param fingerprint if not null, only slots that changed since the previous scan using this fingerprint will be checked.
+     */
+    public void scanInventory(final BingoPlayer player, final BingoGame game, boolean fullInventory, @Nullable InventoryFingerprint fingerprint) {
+        Player p = player.sessionPlayerOrNull();
+        if (p == null)
             return;
-        }
 
-        BingoReloaded.scheduleTask(task -> {
-            for (ItemStack stack : p.getInventory().getContents()) {
-                if (stack != null) {
+        if (fullInventory) {
+            Inventory inventory = p.getInventory();
+            if (fingerprint != null) {
+                fingerprint.ensureSize(inventory.getSize());
+            }
+
+            BingoTask deathMatchTask = game.getDeathMatchTask();
+            for (int slot = 0; slot < inventory.getSize(); slot++) {
+                ItemStack stack = inventory.getItem(slot);
+                if (fingerprint != null && !fingerprint.hasChanged(slot, stack))
+                    continue;
+
+                // Items that are not on the card can be skipped without having to look at the tasks
+                if (stack != null && (layout.getItemTaskIndices(stack.getType()).length > 0 ||
+                        (deathMatchTask != null && stack.getType() == deathMatchTask.material))) {
                     stack = completeItemSlot(stack, player, game);
                 }
+
+                if (fingerprint != null) {
+                    fingerprint.record(slot, stack);
+                }
             }
+        }
 
-            ItemStack stack = p.getItemOnCursor();
-            stack = completeItemSlot(stack, player, game);
-        });
+        ItemStack stack = p.getItemOnCursor();
+        stack = completeItemSlot(stack, player, game);
     }
 
     public void onPlayerCollectItem(final EntityPickupItemEvent event, final BingoPlayer player, final BingoGame game) {
@@ -242,10 +237,14 @@ public class BingoCard
     }
 
     public void onPlayerDroppedItem(final PlayerDropItemEvent event, final BingoPlayer player, final BingoGame game) {
-        BingoReloaded.scheduleTask(task -> {
-            ItemStack stack = event.getItemDrop().getItemStack();
-            stack = completeItemSlot(stack, player, game);
-        });
+        game.getCardEventManager().requestDroppedItemCheck(player, game, event.getItemDrop());
+    }
+
+    /**
+     * Checks an item the player dropped for completed tasks.
+     */
+    public void checkDroppedItem(final Item item, final BingoPlayer player, final BingoGame game) {
+        completeItemSlot(item.getItemStack(), player, game);
     }
 
     ItemStack completeItemSlot(ItemStack item, BingoPlayer player, BingoGame game) {
@@ -266,23 +265,24 @@ public class BingoCard
             return item;
         }
 
-        for (BingoTask task : tasks) {
-            if (task.type != BingoTask.TaskType.ITEM)
+        for (int taskIndex : layout.getItemTaskIndices(item.getType())) {
+            if (completion.isCompleted(taskIndex) || completion.isVoided(taskIndex))
                 continue;
 
-            ItemTask data = (ItemTask) task.data;
-            if (data.material().equals(item.getType()) && data.count() <= item.getAmount()) {
-                if (!task.complete(player, game.getGameTime())) {
-                    continue;
-                }
-                if (game.getConfig().removeTaskItems) {
-                    item.setAmount(item.getAmount() - data.getCount());
-                    player.sessionPlayer().get().updateInventory();
-                }
-                var slotEvent = new BingoCardTaskCompleteEvent(task, player, hasBingo(player.getTeam()));
-                Bukkit.getPluginManager().callEvent(slotEvent);
-                break;
+            ItemTask data = (ItemTask) layout.tasks.get(taskIndex);
+            if (data.count() > item.getAmount())
+                continue;
+
+            if (!completeTask(taskIndex, player, game.getGameTime())) {
+                continue;
+            }
+            if (game.getConfig().removeTaskItems) {
+                item.setAmount(item.getAmount() - data.getCount());
+                player.sessionPlayer().get().updateInventory();
             }
+            var slotEvent = new BingoCardTaskCompleteEvent(getTask(taskIndex), player, hasBingo(player.getTeam()));
+            Bukkit.getPluginManager().callEvent(slotEvent);
+            break;
         }
         return item;
     }
@@ -294,20 +294,13 @@ public class BingoCard
         if (game.getDeathMatchTask() != null)
             return;
 
-        for (BingoTask task : tasks) {
-            if (task.type != BingoTask.TaskType.ADVANCEMENT)
+        for (int taskIndex : layout.getAdvancementTaskIndices(event.getAdvancement().getKey())) {
+            if (!completeTask(taskIndex, player, game.getGameTime()))
                 continue;
 
-            AdvancementTask data = (AdvancementTask) task.data;
-
-            if (data.advancement().equals(event.getAdvancement())) {
-                if (!task.complete(player, game.getGameTime()))
-                    continue;
-
-                var slotEvent = new BingoCardTaskCompleteEvent(task, player, hasBingo(player.getTeam()));
-                Bukkit.getPluginManager().callEvent(slotEvent);
-                break;
-            }
+            var slotEvent = new BingoCardTaskCompleteEvent(getTask(taskIndex), player, hasBingo(player.getTeam()));
+            Bukkit.getPluginManager().callEvent(slotEvent);
+            break;
         }
     }
 
@@ -318,17 +311,16 @@ public class BingoCard
         if (game.getDeathMatchTask() != null)
             return;
 
-        for (BingoTask task : tasks) {
-            if (task.type != BingoTask.TaskType.STATISTIC)
+        for (int taskIndex = 0; taskIndex < layout.tasks.size(); taskIndex++) {
+            if (!(layout.tasks.get(taskIndex) instanceof StatisticTask data))
                 continue;
 
-            StatisticTask data = (StatisticTask) task.data;
             if (data.statistic().equals(new BingoStatistic(event.getStatistic(), event.getEntityType(), event.getMaterial())) &&
                     data.getCount() == event.getNewValue()) {
-                if (!task.complete(player, game.getGameTime()))
+                if (!completeTask(taskIndex, player, game.getGameTime()))
                     continue;
 
-                var slotEvent = new BingoCardTaskCompleteEvent(task, player, hasBingo(player.getTeam()));
+                var slotEvent = new BingoCardTaskCompleteEvent(getTask(taskIndex), player, hasBingo(player.getTeam()));
                 Bukkit.getPluginManager().callEvent(slotEvent);
                 break;
             }
@@ -342,16 +334,15 @@ public class BingoCard
         if (game.getDeathMatchTask() != null)
             return;
 
-        for (BingoTask task : tasks) {
-            if (task.type != BingoTask.TaskType.STATISTIC)
+        for (int taskIndex = 0; taskIndex < layout.tasks.size(); taskIndex++) {
+            if (!(layout.tasks.get(taskIndex) instanceof StatisticTask data))
                 continue;
 
-            StatisticTask data = (StatisticTask) task.data;
             if (data.statistic().equals(event.stat)) {
-                if (!task.complete(player, game.getGameTime()))
+                if (!completeTask(taskIndex, player, game.getGameTime()))
                     continue;
 
-                var slotEvent = new BingoCardTaskCompleteEvent(task, player, hasBingo(player.getTeam()));
+                var slotEvent = new BingoCardTaskCompleteEvent(getTask(taskIndex), player, hasBingo(player.getTeam()));
                 Bukkit.getPluginManager().callEvent(slotEvent);
                 break;
             }
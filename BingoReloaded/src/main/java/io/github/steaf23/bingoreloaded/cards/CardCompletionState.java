@@ -0,0 +1,121 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.player.BingoParticipant;
+import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stores the progress on a card, indexed by the position of the task in the card's layout.
+ * Which tasks have been completed by each team is kept as a bit mask, where bit i represents the task at index i.
+ * Checking for a bingo, counting completed tasks and comparing teams can all be done using a few bitwise operations
+ * using the line masks of the card's size.
+ */
+public class CardCompletionState
+{
+    private final CardSize size;
+    private final Map<BingoTeam, Long> teamMasks;
+    // All tasks that have been completed by any team.
+    private long completedMask;
+    private long voidedMask;
+    private final BingoParticipant[] completedBy;
+    private final long[] completedAt;
+
+    public CardCompletionState(CardSize size) {
+        this.size = size;
+        this.teamMasks = new HashMap<>();
+        this.completedMask = 0L;
+        this.voidedMask = 0L;
+        this.completedBy = new BingoParticipant[size.fullCardSize];
+        this.completedAt = new long[size.fullCardSize];
+        Arrays.fill(completedAt, -1L);
+    }
+
+    /**
+     * @param taskIndex index of the task on the card.
+     * @param participant participant that completed the task.
+     * @param gameTime time at which the task was completed.
+     * @return true if the task was not completed before.
+     */
+    public boolean completeTask(int taskIndex, BingoParticipant participant, long gameTime) {
+        if (isCompleted(taskIndex))
+            return false;
+
+        completedBy[taskIndex] = participant;
+        completedAt[taskIndex] = gameTime;
+        BingoTeam team = participant.getTeam();
+        if (team != null) {
+            long bit = 1L << taskIndex;
+            teamMasks.merge(team, bit, (a, b) -> a | b);
+            completedMask |= bit;
+        }
+        return true;
+    }
+
+    public boolean isCompleted(int taskIndex) {
+        return completedBy[taskIndex] != null;
+    }
+
+    @Nullable
+    public BingoParticipant getCompletedBy(int taskIndex) {
+        return completedBy[taskIndex];
+    }
+
+    public long getCompletedAt(int taskIndex) {
+        return completedAt[taskIndex];
+    }
+
+    /**
+     * Voids the task, unless it has already been completed.
+     */
+    public void voidTask(int taskIndex) {
+        if (isCompleted(taskIndex))
+            return;
+
+        voidedMask |= 1L << taskIndex;
+    }
+
+    public boolean isVoided(int taskIndex) {
+        return (voidedMask & (1L << taskIndex)) != 0;
+    }
+
+    public long getMask(BingoTeam team) {
+        return teamMasks.getOrDefault(team, 0L);
+    }
+
+    public boolean hasBingo(BingoTeam team) {
+        long mask = getMask(team);
+        for (long line : size.lineMasks) {
+            if ((mask & line) == line) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasCompletedCard(BingoTeam team) {
+        return getMask(team) == size.fullCardMask;
+    }
+
+    public int getCompleteCount(BingoTeam team) {
+        return Long.bitCount(getMask(team));
+    }
+
+    /**
+     * @return The amount of tasks that have been completed by any team.
+     */
+    public int getTotalCompleteCount() {
+        return Long.bitCount(completedMask);
+    }
+
+    public void reset() {
+        teamMasks.clear();
+        completedMask = 0L;
+        voidedMask = 0L;
+        Arrays.fill(completedBy, null);
+        Arrays.fill(completedAt, -1L);
+    }
+}
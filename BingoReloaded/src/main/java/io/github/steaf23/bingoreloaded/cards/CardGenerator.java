@@ -0,0 +1,198 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.data.BingoCardData;
+import io.github.steaf23.bingoreloaded.data.TaskListData;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import org.bukkit.Material;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable copy of everything needed to generate layouts for a single card.
+ * Loading the generator reads the card and list data and has to happen on the main thread,
+ * generating layouts from it does not touch any plugin data and can be done on any thread.
+ * Loaded generators are kept until the card or list data changes, so loading the same card again is only a lookup.
+ */
+public class CardGenerator
+{
+    record ListEntry(String name, int min, int max, List<TaskData> tasks) {}
+
+    private record Key(String cardName, boolean withAdvancements, boolean withStatistics) {}
+
+    // Generators loaded from the current version of the card data.
+    private static final Map<Key, CardGenerator> loaded = new HashMap<>();
+    private static long loadedVersion = -1;
+
+    private static final TaskData DEFAULT_TASK = new ItemTask(Material.DIRT, 1);
+
+    // Lists in the order they are defined in the card.
+    private final List<ListEntry> lists;
+    // The same lists, sorted by their minimum amount of tasks.
+    private final List<ListEntry> listsByMin;
+
+    /**
+     * @param lists lists in the order they are defined in the card.
+     * @param listsByMin the same lists, sorted by their minimum amount of tasks.
+     */
+    CardGenerator(List<ListEntry> lists, List<ListEntry> listsByMin) {
+        this.lists = lists;
+        this.listsByMin = listsByMin;
+    }
+
+    public static CardGenerator load(String cardName, boolean withAdvancements, boolean withStatistics) {
+        BingoCardData cardsData = new BingoCardData();
+        // Changes made to the data files by something else have to be noticed before any loaded generator can be reused.
+        cardsData.checkForChanges();
+
+        long version = BingoCardData.getDataVersion();
+        if (version != loadedVersion) {
+            loaded.clear();
+            loadedVersion = version;
+        }
+        return loaded.computeIfAbsent(new Key(cardName, withAdvancements, withStatistics),
+                key -> loadFromData(cardsData, cardName, withAdvancements, withStatistics));
+    }
+
+    private static CardGenerator loadFromData(BingoCardData cardsData, String cardName, boolean withAdvancements, boolean withStatistics) {
+        TaskListData listsData = cardsData.lists();
+
+        Map<String, ListEntry> entries = new LinkedHashMap<>();
+        for (String listName : cardsData.getListNames(cardName)) {
+            entries.put(listName, new ListEntry(listName,
+                    cardsData.getListMin(cardName, listName),
+                    cardsData.getListMax(cardName, listName),
+                    List.copyOf(listsData.getTasks(listName, withStatistics, withAdvancements))));
+        }
+
+        List<ListEntry> listsByMin = new ArrayList<>();
+        if (!entries.isEmpty()) {
+            for (String listName : cardsData.getListsSortedByMin(cardName)) {
+                listsByMin.add(entries.get(listName));
+            }
+        }
+        return new CardGenerator(List.copyOf(entries.values()), List.copyOf(listsByMin));
+    }
+
+    /**
+     * Generating a bingo card layout has a few steps:
+     * - Create task shuffler
+     * - Create a ticketlist. This list contains a list name for each task on the card,
+     * based on how often an item from that list should appear on the card.
+     * - Using the ticketlist, pick a random task from each ticketlist entry to put on the card.
+     * - Finally shuffle the tasks and add them to the card.
+     * If the final task count is lower than the amount of spaces available on the card, it will be filled up using default tasks.
+     *
+     * @param seed seed to shuffle the tasks with, or 0 to use a random seed.
+     */
+    public CardLayout generate(CardSize size, int seed) {
+        // Create shuffler
+        Random shuffler;
+        if (seed == 0) {
+            shuffler = new Random();
+        } else {
+            shuffler = new Random(seed);
+        }
+
+        return pickTasks(createTicketList(size, shuffler), size, shuffler);
+    }
+
+    /**
+     * Generates a different layout for each team, all using the same ticketlist so every card contains the same amount of tasks from each list.
+     * The layouts are generated in parallel, the layout at each index only depends on the seed and that index,
+     * so generating more layouts with the same seed does not change the layouts at lower indices.
+     *
+     * @param seed seed to generate the layouts with, or 0 to use a random seed.
+     */
+    public List<CardLayout> generateUnique(CardSize size, int seed, int count) {
+        Random shuffler;
+        if (seed == 0) {
+            shuffler = new Random();
+        } else {
+            shuffler = new Random(seed);
+        }
+
+        List<ListEntry> ticketList = createTicketList(size, shuffler);
+        long teamSeedBase = shuffler.nextLong();
+
+        CardLayout[] layouts = new CardLayout[count];
+        // Parallel streams run on the common fork-join pool.
+        IntStream.range(0, count).parallel().forEach(i ->
+                layouts[i] = pickTasks(ticketList, size, new Random(teamSeed(teamSeedBase, i))));
+        return List.of(layouts);
+    }
+
+    private static long teamSeed(long base, int index) {
+        // Spread consecutive indices over the whole seed range (SplitMix64 finalizer).
+        long z = base + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return a list containing a list entry for each task on the card, based on how often a task from that list should appear on the card.
+     */
+    private List<ListEntry> createTicketList(CardSize size, Random shuffler) {
+        List<ListEntry> ticketList = new ArrayList<>();
+        for (ListEntry list : listsByMin) {
+            if (list.tasks().isEmpty()) // Skip empty task lists.
+            {
+                continue;
+            }
+
+            int proportionalMin = proportional(list.min(), size);
+            for (int i = 0; i < Math.max(1, proportionalMin); i++) {
+                ticketList.add(list);
+            }
+        }
+        List<ListEntry> overflowList = new ArrayList<>();
+        for (ListEntry list : lists) {
+            int proportionalMin = Math.max(1, proportional(list.min(), size));
+            int proportionalMax = proportional(list.max(), size);
+
+            for (int i = 0; i < proportionalMax - proportionalMin; i++) {
+                overflowList.add(list);
+            }
+        }
+        Collections.shuffle(overflowList, shuffler);
+        ticketList.addAll(overflowList);
+        if (ticketList.size() > size.fullCardSize)
+            ticketList = ticketList.subList(0, size.fullCardSize);
+        return ticketList;
+    }
+
+    private static CardLayout pickTasks(List<ListEntry> ticketList, CardSize size, Random shuffler) {
+        // Pick random tasks
+        List<TaskData> newTasks = new ArrayList<>();
+        Map<ListEntry, List<TaskData>> allTasks = new IdentityHashMap<>();
+        for (ListEntry list : ticketList) {
+            if (list.tasks().isEmpty()) // Skip empty task lists.
+            {
+                continue;
+            }
+            List<TaskData> listTasks = allTasks.computeIfAbsent(list, l -> {
+                List<TaskData> shuffled = new ArrayList<>(l.tasks());
+                Collections.shuffle(shuffled, shuffler);
+                return shuffled;
+            });
+            // Lists that have less tasks than their maximum run out of tasks to pick.
+            if (!listTasks.isEmpty()) {
+                newTasks.add(listTasks.remove(listTasks.size() - 1));
+            }
+        }
+        while (newTasks.size() < size.fullCardSize) {
+            newTasks.add(DEFAULT_TASK);
+        }
+        newTasks = newTasks.subList(0, size.fullCardSize);
+
+        // Shuffle and add tasks to the card.
+        Collections.shuffle(newTasks, shuffler);
+        return new CardLayout(size, newTasks);
+    }
+
+    private static int proportional(int amount, CardSize size) {
+        return (int) ((float) amount * size.fullCardSize / CardSize.X5.fullCardSize);
+    }
+}
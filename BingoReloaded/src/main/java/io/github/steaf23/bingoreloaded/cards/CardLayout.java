@@ -0,0 +1,80 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import io.github.steaf23.bingoreloaded.tasks.statistics.BingoStatistic;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+
+import java.util.*;
+
+/**
+ * Immutable description of the tasks on a bingo card and where they are placed.
+ * A single layout is shared by the cards of every team playing the same game, so that each team only has to keep track of its own progress.
+ */
+public class CardLayout
+{
+    public final CardSize size;
+    public final List<TaskData> tasks;
+
+    // Indices of all item tasks on the card, indexed by material so item stacks can be matched without walking the whole card.
+    private final Map<Material, int[]> itemTaskIndices;
+    // Indices of all advancement tasks on the card, indexed by the key of the advancement.
+    private final Map<NamespacedKey, int[]> advancementTaskIndices;
+    private final Set<BingoStatistic> statistics;
+
+    private static final int[] NO_TASKS = new int[0];
+
+    public CardLayout(CardSize size, List<TaskData> tasks) {
+        this.size = size;
+        this.tasks = List.copyOf(tasks);
+
+        Map<Material, List<Integer>> itemIndices = new EnumMap<>(Material.class);
+        Map<NamespacedKey, List<Integer>> advancementIndices = new HashMap<>();
+        Set<BingoStatistic> statistics = new HashSet<>();
+        for (int i = 0; i < this.tasks.size(); i++) {
+            TaskData data = this.tasks.get(i);
+            if (data instanceof ItemTask itemTask) {
+                itemIndices.computeIfAbsent(itemTask.material(), material -> new ArrayList<>()).add(i);
+            } else if (data instanceof AdvancementTask advancementTask && advancementTask.advancement() != null) {
+                advancementIndices.computeIfAbsent(advancementTask.advancement().getKey(), key -> new ArrayList<>()).add(i);
+            } else if (data instanceof StatisticTask statisticTask) {
+                statistics.add(statisticTask.statistic());
+            }
+        }
+
+        this.itemTaskIndices = new EnumMap<>(Material.class);
+        itemIndices.forEach((material, indices) -> itemTaskIndices.put(material, toArray(indices)));
+        this.advancementTaskIndices = new HashMap<>();
+        advancementIndices.forEach((key, indices) -> advancementTaskIndices.put(key, toArray(indices)));
+        this.statistics = Set.copyOf(statistics);
+    }
+
+    private static int[] toArray(List<Integer> indices) {
+        return indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @return The indices of all item tasks on this card that ask for the given material, do not modify the returned array.
+     */
+    public int[] getItemTaskIndices(Material material) {
+        return itemTaskIndices.getOrDefault(material, NO_TASKS);
+    }
+
+    /**
+     * @return The indices of all advancement tasks on this card for the given advancement, do not modify the returned array.
+     */
+    public int[] getAdvancementTaskIndices(NamespacedKey advancement) {
+        return advancementTaskIndices.getOrDefault(advancement, NO_TASKS);
+    }
+
+    public Set<NamespacedKey> getAdvancements() {
+        return Collections.unmodifiableSet(advancementTaskIndices.keySet());
+    }
+
+    public Set<BingoStatistic> getStatistics() {
+        return statistics;
+    }
+}
@@ -20,6 +20,11 @@ public enum CardSize
 
     public final Set<Integer> taskSlots;
 
+    // Bit masks of all lines that can be completed on a card of this size (all rows, all columns and both diagonals),
+    // where bit i represents the task at index i. The largest card has 36 tasks, so every card fits in a single long.
+    public final long[] lineMasks;
+    public final long fullCardMask;
+
     CardSize(int size, int leftSpacing)
     {
         this.size = size;
@@ -32,6 +37,21 @@ public enum CardSize
         {
             taskSlots.add(getCardInventorySlot(i));
         }
+
+        this.fullCardMask = (1L << fullCardSize) - 1;
+        this.lineMasks = new long[size * 2 + 2];
+        for (int i = 0; i < fullCardSize; i++)
+        {
+            int row = i / size;
+            int col = i % size;
+            long bit = 1L << i;
+            lineMasks[row] |= bit;
+            lineMasks[size + col] |= bit;
+            if (row == col)
+                lineMasks[size * 2] |= bit;
+            if (row + col == size - 1)
+                lineMasks[size * 2 + 1] |= bit;
+        }
     }
 
     public int getCardInventorySlot(int itemIndex)
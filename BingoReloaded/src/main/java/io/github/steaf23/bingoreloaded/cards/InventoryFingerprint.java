@@ -0,0 +1,71 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Remembers the material and amount of every slot in a player's inventory, as it was when it was last checked for completed tasks.
+ * Used to only check the slots that have changed since then.
+ */
+public class InventoryFingerprint
+{
+    private Material[] materials;
+    private int[] amounts;
+
+    public InventoryFingerprint()
+    {
+        this.materials = new Material[0];
+        this.amounts = new int[0];
+    }
+
+    public void ensureSize(int size)
+    {
+        if (materials.length == size)
+            return;
+
+        materials = new Material[size];
+        amounts = new int[size];
+    }
+
+    /**
+     * @return true if the stack in the given slot is different from the last recorded stack in that slot.
+     */
+    public boolean hasChanged(int slot, @Nullable ItemStack stack)
+    {
+        if (slot >= materials.length)
+            return true;
+
+        if (stack == null)
+            return materials[slot] != Material.AIR || amounts[slot] != 0;
+
+        return materials[slot] != stack.getType() || amounts[slot] != stack.getAmount();
+    }
+
+    public void record(int slot, @Nullable ItemStack stack)
+    {
+        if (slot >= materials.length)
+            return;
+
+        if (stack == null || stack.getAmount() <= 0)
+        {
+            materials[slot] = Material.AIR;
+            amounts[slot] = 0;
+        }
+        else
+        {
+            materials[slot] = stack.getType();
+            amounts[slot] = stack.getAmount();
+        }
+    }
+
+    /**
+     * Forget all recorded slots, the next check will look at every slot again.
+     */
+    public void invalidate()
+    {
+        Arrays.fill(materials, null);
+    }
+}
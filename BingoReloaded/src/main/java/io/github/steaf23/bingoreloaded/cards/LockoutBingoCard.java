@@ -5,7 +5,6 @@ import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.gui.base.MenuManager;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
-import io.github.steaf23.bingoreloaded.tasks.BingoTask;
 import io.github.steaf23.bingoreloaded.util.TranslatedMessage;
 
 public class LockoutBingoCard extends BingoCard
@@ -22,7 +21,7 @@ public class LockoutBingoCard extends BingoCard
         this.session = session;
         this.teams = teams;
 
-        menu.setInfo(BingoTranslation.INFO_LOCKOUT_NAME.translate(),
+        setInfo(BingoTranslation.INFO_LOCKOUT_NAME.translate(),
                 BingoTranslation.INFO_LOCKOUT_DESC.translate().split("\\n"));
     }
 
@@ -38,10 +37,10 @@ public class LockoutBingoCard extends BingoCard
         BingoTeam leadingTeam = teams.getLeadingTeam();
         BingoTeam losingTeam = teams.getLosingTeam();
 
-        int itemsLeft = size.fullCardSize - teams.getTotalCompleteCount();
+        int itemsLeft = size.fullCardSize - getTotalCompleteCount();
 
         // if amount on items cannot get up to amount of items of the team with the most items, this team cannot win anymore.
-        if (itemsLeft + losingTeam.getCompleteCount() < leadingTeam.getCompleteCount()) {
+        if (leadingTeam != null && itemsLeft + losingTeam.getCompleteCount() < leadingTeam.getCompleteCount()) {
             dropTeam(losingTeam, session);
         }
 
@@ -65,10 +64,13 @@ public class LockoutBingoCard extends BingoCard
         new TranslatedMessage(BingoTranslation.DROPPED)
                 .arg(team.getColoredName().asLegacyString())
                 .sendAll(session);
+        // The dropped team stays in the standings, since it cannot complete any more tasks it remains the losing team,
+        // so at most one team gets dropped.
         team.outOfTheGame = true;
-        for (BingoTask task : tasks) {
-            if (task.isCompleted() && team.getMembers().contains(task.getCompletedBy().orElseGet(() -> null))) {
-                task.setVoided(true);
+        long completedMask = getCompletedMask(team);
+        for (int i = 0; i < getTaskCount(); i++) {
+            if ((completedMask & (1L << i)) != 0) {
+                voidTask(i);
                 currentMaxTasks--;
             }
         }
@@ -2,9 +2,12 @@ package io.github.steaf23.bingoreloaded.command;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.BingoStatData;
+import io.github.steaf23.bingoreloaded.data.BingoStatType;
 import io.github.steaf23.bingoreloaded.data.BingoTranslation;
 import io.github.steaf23.bingoreloaded.data.ConfigData;
 import io.github.steaf23.bingoreloaded.data.PlayerData;
+import io.github.steaf23.bingoreloaded.data.helper.YmlDataManager;
+import io.github.steaf23.bingoreloaded.event.CardEventManager;
 import io.github.steaf23.bingoreloaded.gameloop.BingoGame;
 import io.github.steaf23.bingoreloaded.gameloop.SessionManager;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
@@ -21,6 +24,7 @@ import io.github.steaf23.bingoreloaded.util.TranslatedMessage;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.chat.BaseComponent;
 import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabExecutor;
@@ -133,7 +137,7 @@ public class BingoCommand implements TabExecutor
                     Message.sendDebug(text, player);
                     return true;
                 }
-                BingoStatData statsData = new BingoStatData();
+                BingoStatData statsData = BingoReloaded.getInstance().statData();
                 Message msg;
                 if (args.length > 1 && player.hasPermission("bingo.admin")) {
                     msg = statsData.getPlayerStatsFormatted(args[1]);
@@ -168,10 +172,58 @@ public class BingoCommand implements TabExecutor
                 new TeamEditorMenu(gameManager.getMenuManager()).open(player);
             }
             case "hologram" -> {
+                if (!player.hasPermission("bingo.admin"))
+                    return false;
 
+                BingoStatData statsData = BingoReloaded.getInstance().statData();
+                if (statsData == null) {
+                    Message.sendDebug(ChatColor.RED + "Cannot show a leaderboard since player statistics are not being tracked!", player);
+                    return true;
+                }
+
+                BingoStatType type = BingoStatType.WINS;
+                if (args.length > 1) {
+                    try {
+                        type = BingoStatType.valueOf(args[1].toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        Message.sendDebug(ChatColor.RED + "Unknown statistic " + args[1], player);
+                        return true;
+                    }
+                }
+                // Leaderboards are identified by the block they are placed on, so only one leaderboard can be placed per block.
+                Location location = player.getLocation().getBlock().getLocation();
+                String id = "leaderboard_" + location.getWorld().getName() + "_" + location.getBlockX() + "_" + location.getBlockY() + "_" + location.getBlockZ();
+                statsData.asHologram(0, 10, type)
+                        .withId(id)
+                        .withLocation(location.add(0.5, 2.0, 0.5))
+                        .create();
+            }
+            case "scans" -> {
+                if (!player.hasPermission("bingo.admin"))
+                    return false;
+
+                if (!session.isRunning()) {
+                    Message.sendDebug(ChatColor.RED + "Inventory scans are only counted while a game is running!", player);
+                    return true;
+                }
+
+                CardEventManager cardEventManager = ((BingoGame) session.phase()).getCardEventManager();
+                Message.sendDebug("Inventory scans: " + cardEventManager.getPerformedScanCount() + " performed, "
+                        + cardEventManager.getSavedScanCount() + " saved by merging scans in the same tick", player);
+            }
+            case "saves" -> {
+                if (!player.hasPermission("bingo.admin"))
+                    return false;
+
+                String statistics = YmlDataManager.getSaveStatistics();
+                if (statistics == null) {
+                    Message.sendDebug(ChatColor.RED + "Data files are not being saved asynchronously!", player);
+                    return true;
+                }
+                Message.sendDebug("Data files: " + statistics, player);
             }
             default ->
-                    new TranslatedMessage(BingoTranslation.COMMAND_USAGE).color(ChatColor.RED).arg("/bingo [getcard | stats | start | end | join | back | leave | deathmatch | creator | teams]").send(player);
+                    new TranslatedMessage(BingoTranslation.COMMAND_USAGE).color(ChatColor.RED).arg("/bingo [getcard | stats | start | end | join | back | leave | deathmatch | creator | teams | hologram | scans | saves]").send(player);
         }
         return true;
     }
@@ -265,10 +317,15 @@ public class BingoCommand implements TabExecutor
     public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull Command command, @NotNull String alias, @NotNull String[] args) {
         if (!(sender instanceof Player player) || player.hasPermission("bingo.admin")) {
             if (args.length <= 1) {
-                return List.of("join", "getcard", "back", "leave", "stats", "end", "kit", "deathmatch", "creator", "teams");
+                return List.of("join", "getcard", "back", "leave", "stats", "end", "kit", "deathmatch", "creator", "teams", "hologram", "scans", "saves");
             }
 
             switch (args[0]) {
+                case "hologram" -> {
+                    if (args.length == 2) {
+                        return Arrays.stream(BingoStatType.values()).map(type -> type.name().toLowerCase()).collect(Collectors.toList());
+                    }
+                }
                 case "kit" -> {
                     if (args.length == 2) {
                         return List.of("add", "remove", "item");
@@ -5,8 +5,10 @@ import io.github.steaf23.bingoreloaded.data.helper.YmlDataManager;
 import io.github.steaf23.bingoreloaded.tasks.ItemTask;
 import io.github.steaf23.bingoreloaded.tasks.TaskData;
 import org.bukkit.Material;
+import org.bukkit.configuration.file.FileConfiguration;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class BingoCardData
@@ -17,6 +19,39 @@ public class BingoCardData
 
     private final YmlDataManager data = BingoReloaded.createYmlDataManager("data/cards.yml");
 
+    // Incremented whenever a card or task list changes, so that anything generated from older data can tell it is outdated.
+    private static final AtomicLong dataVersion = new AtomicLong();
+    // Config the cards were last checked against, the data manager creates a new one when the file was changed by something else.
+    private static FileConfiguration checkedConfig;
+
+    /**
+     * @return a number that changes every time any card or task list gets changed.
+     */
+    public static long getDataVersion()
+    {
+        return dataVersion.get();
+    }
+
+    static void markDataChanged()
+    {
+        dataVersion.incrementAndGet();
+    }
+
+    /**
+     * Changes the data version if the cards or task lists were changed by something else since this was last called.
+     */
+    public void checkForChanges()
+    {
+        synchronized (BingoCardData.class)
+        {
+            FileConfiguration config = data.getConfig();
+            if (checkedConfig != null && config != checkedConfig)
+                markDataChanged();
+            checkedConfig = config;
+        }
+        listsData.reloadIfChanged();
+    }
+
     public boolean removeCard(String cardName)
     {
         if (!data.getConfig().contains(cardName))
@@ -24,6 +59,7 @@ public class BingoCardData
 
         data.getConfig().set(cardName, null);
         data.saveConfig();
+        markDataChanged();
         return true;
     }
 
@@ -35,6 +71,7 @@ public class BingoCardData
         var card = data.getConfig().get(cardName);
         data.getConfig().set(cardName + "_copy", card);
         data.saveConfig();
+        markDataChanged();
         return true;
     }
 
@@ -52,6 +89,7 @@ public class BingoCardData
         data.getConfig().set(newName, card);
         data.getConfig().set(cardName, null);
         data.saveConfig();
+        markDataChanged();
         return true;
     }
 
@@ -77,11 +115,13 @@ public class BingoCardData
             put("min", min);
         }});
         data.saveConfig();
+        markDataChanged();
     }
 
     public void removeList(String cardName, String listName)
     {
         data.getConfig().set(cardName + "." + listName, null);
+        markDataChanged();
     }
 
     public ItemTask getRandomItemTask(String cardName)
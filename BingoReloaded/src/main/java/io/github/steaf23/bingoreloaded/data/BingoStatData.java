@@ -1,24 +1,121 @@
 package io.github.steaf23.bingoreloaded.data;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
-import io.github.steaf23.bingoreloaded.data.helper.YmlDataManager;
+import io.github.steaf23.bingoreloaded.data.helper.AtomicFileWriter;
+import io.github.steaf23.bingoreloaded.hologram.Hologram;
 import io.github.steaf23.bingoreloaded.hologram.HologramBuilder;
 import io.github.steaf23.bingoreloaded.util.Message;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 
 import javax.annotation.Nullable;
-import java.util.Map;
-import java.util.UUID;
-
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Keeps the statistics of all players in memory, changes are written back to player_stats.yml periodically
+ * on a separate thread instead of every time a statistic changes.
+ * Use flush() to make sure all changes have been written, for example when the plugin gets disabled.
+ * For every stat type the players are also kept in order, to show leaderboards without having to sort all players.
+ * To look up statistics by player name, the last known name of each player is stored in player_names.yml.
+ */
 public class BingoStatData
 {
-    private final YmlDataManager data = BingoReloaded.createYmlDataManager("data/player_stats.yml");
+    private static final String FILE_NAME = "data/player_stats.yml";
+    private static final String NAMES_FILE_NAME = "data/player_names.yml";
+    // Amount of ticks between checking for changed statistics to write.
+    private static final long FLUSH_INTERVAL = 30 * BingoReloaded.ONE_SECOND;
+    // Amount of ticks between refreshing leaderboard holograms, if their statistic changed.
+    private static final long LEADERBOARD_INTERVAL = 5 * BingoReloaded.ONE_SECOND;
+    private static final int STAT_COUNT = Arrays.stream(BingoStatType.values()).mapToInt(t -> t.idx).max().orElse(-1) + 1;
+
+    private final File statsFile;
+    private final File namesFile;
+    private final Map<UUID, int[]> stats;
+    // Players whose statistics changed since the last write.
+    private final Set<UUID> dirtyPlayers;
+    // Copies of all statistics and names as they will be written, only used on the writer thread.
+    // Flushing only hands over the changed players, all formatting happens on the writer thread.
+    private final Map<UUID, int[]> writerStats;
+    private final Map<UUID, String> writerNames;
+    // Entries that could not be read as player statistics, written back unchanged so they never get lost.
+    private final Map<String, String> unreadableEntries;
+    private final ExecutorService writer;
+    private BukkitTask flushTask;
+
+    private record Leaderboard(Hologram hologram, int firstEntry, int entriesPerPage, BingoStatType sortedBy) {}
 
-    public BingoStatData()
+    // All players ordered from highest to lowest value, for each stat type.
+    private final Map<BingoStatType, TreeSet<UUID>> rankings;
+    private final Set<BingoStatType> changedRankings;
+    private final List<Leaderboard> leaderboards;
+    // Last known name of every player, and the player id for each of those names in lower case.
+    private final Map<UUID, String> playerNames;
+    private final Map<String, UUID> playerIds;
+    // Players whose name changed since the last write.
+    private final Set<UUID> changedNames;
+    private BukkitTask leaderboardTask;
+
+    public BingoStatData(BingoReloaded plugin)
     {
+        this.statsFile = new File(plugin.getDataFolder(), FILE_NAME);
+        this.namesFile = new File(plugin.getDataFolder(), NAMES_FILE_NAME);
+        this.stats = new HashMap<>();
+        this.dirtyPlayers = new HashSet<>();
+        this.rankings = new EnumMap<>(BingoStatType.class);
+        this.changedRankings = EnumSet.noneOf(BingoStatType.class);
+        this.leaderboards = new ArrayList<>();
+        this.playerNames = new HashMap<>();
+        this.playerIds = new HashMap<>();
+        this.changedNames = new HashSet<>();
+        this.writerStats = new HashMap<>();
+        this.writerNames = new HashMap<>();
+        this.unreadableEntries = new HashMap<>();
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BingoReloaded statistics writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // This class is the only one writing player_stats.yml, so it's read directly instead of through a shared data manager.
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(statsFile);
+        for (String key : config.getKeys(false))
+        {
+            String value = config.getString(key, "");
+            try
+            {
+                stats.put(UUID.fromString(key), parseStats(value));
+            }
+            catch (IllegalArgumentException e)
+            {
+                Message.warn("Could not read player statistics entry '" + key + "', it will be kept as is");
+                unreadableEntries.put(key, value);
+            }
+        }
+
+        loadPlayerNames();
+        stats.forEach((id, playerStats) -> writerStats.put(id, playerStats.clone()));
+        writerNames.putAll(playerNames);
+
+        for (BingoStatType type : BingoStatType.values())
+        {
+            Comparator<UUID> order = Comparator.comparingInt((UUID id) -> getPlayerStat(id, type)).reversed()
+                    .thenComparing(Comparator.naturalOrder());
+            TreeSet<UUID> ranking = new TreeSet<>(order);
+            ranking.addAll(stats.keySet());
+            rankings.put(type, ranking);
+        }
+
+        this.flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flushAsync, FLUSH_INTERVAL, FLUSH_INTERVAL);
+        this.leaderboardTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refreshLeaderboards, LEADERBOARD_INTERVAL, LEADERBOARD_INTERVAL);
     }
 
     public int getPlayerStat(UUID playerId, BingoStatType statType)
@@ -29,9 +126,8 @@ public class BingoStatData
         if (statType.idx < 0)
             return 0;
 
-        String statsString = getPlayerData(playerId);
-        String[] stats = statsString.split(";");
-        return Integer.parseInt(stats[statType.idx]);
+        int[] playerStats = stats.get(playerId);
+        return playerStats == null ? 0 : playerStats[statType.idx];
     }
 
     public void incrementPlayerStat(Player player, BingoStatType statType)
@@ -44,16 +140,39 @@ public class BingoStatData
         if (statType.idx < 0)
             return;
 
-        String statsString = getPlayerData(playerId);
-        String[] stats = statsString.split(";");
-        int stat = Integer.parseInt(stats[statType.idx]);
-        String newStat = Integer.toString(stat + by);
-        stats[statType.idx] = newStat;
+        int[] playerStats = stats.get(playerId);
+        if (playerStats == null)
+        {
+            // New players are shown on every leaderboard, even for stats they don't have yet.
+            playerStats = new int[STAT_COUNT];
+            stats.put(playerId, playerStats);
+            for (BingoStatType type : BingoStatType.values())
+            {
+                rankings.get(type).add(playerId);
+                changedRankings.add(type);
+            }
+        }
+
+        // Players have to be taken out of the rankings before their value changes, otherwise the tree cannot find them anymore.
+        boolean affectsPlayed = statType == BingoStatType.WINS || statType == BingoStatType.LOSSES;
+        rankings.get(statType).remove(playerId);
+        if (affectsPlayed)
+            rankings.get(BingoStatType.PLAYED).remove(playerId);
 
-        setPlayerData(playerId, String.join(";", stats));
+        playerStats[statType.idx] += by;
+        dirtyPlayers.add(playerId);
+
+        rankings.get(statType).add(playerId);
+        changedRankings.add(statType);
+        if (affectsPlayed)
+        {
+            rankings.get(BingoStatType.PLAYED).add(playerId);
+            changedRankings.add(BingoStatType.PLAYED);
+        }
     }
 
     /**
+     * Creates a builder for a leaderboard hologram, once created the hologram is kept up to date using showLeaderboard().
      * @param firstEntry index of first entry to show on the scoreboard
      * @param entriesPerPage how many entries to show including the first entry
      * @param sortedBy stat to sort the entries by
@@ -61,22 +180,131 @@ public class BingoStatData
      */
     public HologramBuilder asHologram(int firstEntry, int entriesPerPage, @Nullable BingoStatType sortedBy)
     {
-        //TODO: implement
-        return new HologramBuilder(BingoReloaded.getPlugin(BingoReloaded.class).holograms());
+        return new HologramBuilder(BingoReloaded.getInstance().holograms())
+                .addLines(getLeaderboardLines(firstEntry, entriesPerPage, sortedBy).toArray(new String[]{}))
+                .onCreate(hologram -> showLeaderboard(hologram, firstEntry, entriesPerPage, sortedBy));
+    }
+
+    /**
+     * Keeps the lines of the given hologram up to date with the leaderboard, until the hologram gets destroyed.
+     * Lines are only updated when the ranking of the stat has changed, and only lines of which the text changed will be renamed.
+     */
+    public void showLeaderboard(Hologram hologram, int firstEntry, int entriesPerPage, @Nullable BingoStatType sortedBy)
+    {
+        Leaderboard leaderboard = new Leaderboard(hologram, firstEntry, entriesPerPage, sortedBy == null ? BingoStatType.WINS : sortedBy);
+        // A hologram shows a single leaderboard, showing another one on it replaces the previous one.
+        leaderboards.removeIf(other -> other.hologram() == hologram);
+        leaderboards.add(leaderboard);
+        hologram.setLines(getLeaderboardLines(firstEntry, entriesPerPage, leaderboard.sortedBy()));
+    }
+
+    public List<String> getLeaderboardLines(int firstEntry, int entriesPerPage, @Nullable BingoStatType sortedBy)
+    {
+        BingoStatType type = sortedBy == null ? BingoStatType.WINS : sortedBy;
+
+        List<String> lines = new ArrayList<>();
+        lines.add("" + ChatColor.GOLD + ChatColor.BOLD + "Bingo Leaderboard " + ChatColor.GRAY + "(" + type.name().toLowerCase().replace('_', ' ') + ")");
+        int rank = 0;
+        for (UUID playerId : rankings.get(type))
+        {
+            if (rank >= firstEntry + entriesPerPage)
+                break;
+
+            if (rank >= firstEntry)
+            {
+                lines.add("" + ChatColor.GOLD + "#" + (rank + 1) + " " + ChatColor.WHITE + getPlayerName(playerId)
+                        + ChatColor.GRAY + ": " + ChatColor.YELLOW + getPlayerStat(playerId, type));
+            }
+            rank++;
+        }
+        return lines;
+    }
+
+    private void refreshLeaderboards()
+    {
+        if (changedRankings.isEmpty())
+            return;
+
+        leaderboards.removeIf(leaderboard -> leaderboard.hologram().isDestroyed());
+        for (Leaderboard leaderboard : leaderboards)
+        {
+            if (changedRankings.contains(leaderboard.sortedBy()))
+            {
+                leaderboard.hologram().setLines(getLeaderboardLines(leaderboard.firstEntry(), leaderboard.entriesPerPage(), leaderboard.sortedBy()));
+            }
+        }
+        changedRankings.clear();
+    }
+
+    private String getPlayerName(UUID playerId)
+    {
+        String name = playerNames.get(playerId);
+        return name == null ? playerId.toString() : name;
+    }
+
+    /**
+     * Should be called when a player joins the server, to be able to find their statistics by name later.
+     */
+    public void updatePlayerName(Player player)
+    {
+        setPlayerName(player.getUniqueId(), player.getName());
+    }
+
+    private void setPlayerName(UUID playerId, String name)
+    {
+        String oldName = playerNames.put(playerId, name);
+        if (name.equals(oldName))
+            return;
+
+        if (oldName != null)
+        {
+            playerIds.remove(oldName.toLowerCase(Locale.ROOT), playerId);
+        }
+        playerIds.put(name.toLowerCase(Locale.ROOT), playerId);
+        changedNames.add(playerId);
+    }
+
+    private void loadPlayerNames()
+    {
+        if (!namesFile.exists())
+        {
+            // Fill the index once from the players known to the server, afterwards it's kept up to date when players join.
+            for (OfflinePlayer player : Bukkit.getOfflinePlayers())
+            {
+                if (player.getName() != null && stats.containsKey(player.getUniqueId()))
+                {
+                    setPlayerName(player.getUniqueId(), player.getName());
+                }
+            }
+            return;
+        }
+
+        YamlConfiguration names = YamlConfiguration.loadConfiguration(namesFile);
+        for (String key : names.getKeys(false))
+        {
+            try
+            {
+                setPlayerName(UUID.fromString(key), names.getString(key, key));
+            }
+            catch (IllegalArgumentException e)
+            {
+                Message.warn("Ignoring invalid player name entry '" + key + "'");
+            }
+        }
+        // Names loaded from the file don't have to be written again.
+        changedNames.clear();
     }
 
     public Message getPlayerStatsFormatted(UUID playerId)
     {
-        String stats = getPlayerData(playerId);
-        String[] statList = stats.split(";");
         return new Message().untranslated("{0}'s statistics: Wins: {1}, Losses: {2}, Games finished: {3}, Tasks completed: {4}, Wand uses: {5}")
                 .color(ChatColor.GREEN)
-                .arg(Bukkit.getOfflinePlayer(playerId).getName()).color(ChatColor.YELLOW).bold()
-                .arg(statList[0]).color(ChatColor.WHITE).bold()
-                .arg(statList[1]).color(ChatColor.WHITE).bold()
-                .arg(Integer.toString(Integer.parseInt(statList[0]) + Integer.parseInt(statList[1]))).color(ChatColor.WHITE).bold()
-                .arg(statList[2]).color(ChatColor.WHITE).bold()
-                .arg(statList[4]).color(ChatColor.WHITE).bold();
+                .arg(getPlayerName(playerId)).color(ChatColor.YELLOW).bold()
+                .arg(Integer.toString(getPlayerStat(playerId, BingoStatType.WINS))).color(ChatColor.WHITE).bold()
+                .arg(Integer.toString(getPlayerStat(playerId, BingoStatType.LOSSES))).color(ChatColor.WHITE).bold()
+                .arg(Integer.toString(getPlayerStat(playerId, BingoStatType.PLAYED))).color(ChatColor.WHITE).bold()
+                .arg(Integer.toString(getPlayerStat(playerId, BingoStatType.TASKS))).color(ChatColor.WHITE).bold()
+                .arg(Integer.toString(getPlayerStat(playerId, BingoStatType.WAND_USES))).color(ChatColor.WHITE).bold();
     }
 
     /**
@@ -99,28 +327,139 @@ public class BingoStatData
         }
     }
 
-    private String getPlayerData(UUID playerId)
+    /**
+     * Writes all changed statistics and player names on the writer thread, if anything changed since the last write.
+     * Has to be called from the main thread.
+     */
+    public void flushAsync()
     {
-        return data.getConfig().getString(playerId.toString(), "0;0;0;0;0");
+        if (!dirtyPlayers.isEmpty())
+        {
+            Map<UUID, int[]> changed = new HashMap<>();
+            for (UUID playerId : dirtyPlayers)
+            {
+                changed.put(playerId, stats.get(playerId).clone());
+            }
+            dirtyPlayers.clear();
+            writer.execute(() -> {
+                writerStats.putAll(changed);
+                write(statsFile, serializeStats(writerStats, unreadableEntries));
+            });
+        }
+        if (!changedNames.isEmpty())
+        {
+            Map<UUID, String> changed = new HashMap<>();
+            for (UUID playerId : changedNames)
+            {
+                changed.put(playerId, playerNames.get(playerId));
+            }
+            changedNames.clear();
+            writer.execute(() -> {
+                writerNames.putAll(changed);
+                write(namesFile, serializeNames(writerNames));
+            });
+        }
     }
 
-    private UUID getPlayerUUID(String playerName)
+    /**
+     * Stops writing periodically and blocks until all changed statistics have been written to disk.
+     * Has to be called from the main thread, the store should not be used anymore afterwards.
+     */
+    public void flush()
+    {
+        if (flushTask != null)
+        {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        if (leaderboardTask != null)
+        {
+            leaderboardTask.cancel();
+            leaderboardTask = null;
+        }
+
+        flushAsync();
+        writer.shutdown();
+        try
+        {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS))
+            {
+                Message.error("Could not save player statistics in time, some statistics may be lost!");
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String serializeStats(Map<UUID, int[]> allStats, Map<String, String> unreadable)
+    {
+        YamlConfiguration yaml = new YamlConfiguration();
+        unreadable.forEach(yaml::set);
+        for (Map.Entry<UUID, int[]> entry : allStats.entrySet())
+        {
+            yaml.set(entry.getKey().toString(), formatStats(entry.getValue()));
+        }
+        return yaml.saveToString();
+    }
+
+    private static String serializeNames(Map<UUID, String> allNames)
+    {
+        YamlConfiguration yaml = new YamlConfiguration();
+        for (Map.Entry<UUID, String> entry : allNames.entrySet())
+        {
+            yaml.set(entry.getKey().toString(), entry.getValue());
+        }
+        return yaml.saveToString();
+    }
+
+    private void write(File file, String contents)
+    {
+        try
+        {
+            AtomicFileWriter.write(file, contents);
+        }
+        catch (IOException e)
+        {
+            Message.error("Could not save " + file.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private static int[] parseStats(String statsString)
     {
-        Map<String, Object> playerData = data.getConfig().getValues(false);
-        for (String recordName : playerData.keySet())
+        int[] result = new int[STAT_COUNT];
+        String[] values = statsString.split(";");
+        for (int i = 0; i < Math.min(values.length, STAT_COUNT); i++)
         {
-            UUID playerId = UUID.fromString(recordName);
-            if (Bukkit.getPlayer(playerId).getName().equals(playerName))
+            try
             {
-                return playerId;
+                result[i] = Integer.parseInt(values[i].trim());
             }
+            catch (NumberFormatException e)
+            {
+                // Keep the rest of the player's statistics, a single bad value counts as 0.
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+
+    private static String formatStats(int[] playerStats)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < playerStats.length; i++)
+        {
+            if (i > 0)
+                builder.append(';');
+            builder.append(playerStats[i]);
         }
-        return null;
+        return builder.toString();
     }
 
-    private void setPlayerData(UUID playerId, String statData)
+    @Nullable
+    private UUID getPlayerUUID(String playerName)
     {
-        data.getConfig().set(playerId.toString(), statData);
-        data.saveConfig();
+        return playerIds.get(playerName.toLowerCase(Locale.ROOT));
     }
 }
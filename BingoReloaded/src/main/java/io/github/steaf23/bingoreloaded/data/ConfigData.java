@@ -40,6 +40,7 @@ public class ConfigData
     public final PluginConfiguration configuration;
     public final String language;
     public final boolean savePlayerStatistics;
+    public final boolean asyncDataSaving;
 
     // Lobby options
     public final int minimumPlayerCount;
@@ -65,6 +66,8 @@ public class ConfigData
     public final boolean showPlayerInScoreboard;
     public final boolean disableAdvancements;
     public final boolean disableStatistics;
+    public final boolean uniqueTeamCards;
+    public final int statisticPollsPerTick;
 
     // Private options
     public final String defaultWorldName;
@@ -83,6 +86,7 @@ public class ConfigData
         this.configuration = PluginConfiguration.SINGULAR;
         this.language = "languages/" + config.getString("language", "en_us.yml");
         this.savePlayerStatistics = config.getBoolean("savePlayerStatistics", false);
+        this.asyncDataSaving = config.getBoolean("asyncDataSaving", true);
 
         // Lobby
         this.minimumPlayerCount = Math.max(0, config.getInt("minimumPlayerCount", 4));
@@ -111,6 +115,8 @@ public class ConfigData
         this.showPlayerInScoreboard = config.getBoolean("showPlayerInScoreboard", true);
         this.disableAdvancements = config.getBoolean("disableAdvancements", false);
         this.disableStatistics = config.getBoolean("disableStatistics", false);
+        this.uniqueTeamCards = config.getBoolean("uniqueTeamCards", false);
+        this.statisticPollsPerTick = Math.max(1, config.getInt("statisticPollsPerTick", 10));
 
         // Private
         this.defaultWorldName = config.getString("defaultWorldName", "world");
@@ -0,0 +1,204 @@
+package io.github.steaf23.bingoreloaded.data;
+
+import io.github.steaf23.bingoreloaded.data.helper.AtomicFileWriter;
+import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
+import io.github.steaf23.bingoreloaded.tasks.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+import io.github.steaf23.bingoreloaded.tasks.statistics.BingoStatistic;
+import io.github.steaf23.bingoreloaded.util.Message;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Statistic;
+import org.bukkit.advancement.Advancement;
+import org.bukkit.entity.EntityType;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Compact binary copy of all task lists in a lists_x.yml file, so that the lists don't have to be deserialized from yaml on startup.
+ * The cache is only used when its key matches, which is derived from the contents of the lists file and the server version.
+ */
+class TaskListCache
+{
+    private static final int MAGIC = 0x42524C43;
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * @return the key a cache has to be created with to be valid for the given source file contents and version.
+     */
+    static byte[] createKey(byte[] sourceContents, String version)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(sourceContents);
+            digest.update(version.getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // Every java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return all task lists in the cache file, or null if the file does not exist, is not valid or was created with a different key.
+     */
+    @Nullable
+    static Map<String, TaskListSnapshot> read(File cacheFile, byte[] key)
+    {
+        if (!cacheFile.exists())
+            return null;
+
+        try
+        {
+            // Read into a heap buffer instead of mapping the file, a mapped file cannot be replaced on some platforms until the mapping is garbage collected.
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(cacheFile.toPath()));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+                return null;
+
+            byte[] cacheKey = new byte[buffer.getShort()];
+            buffer.get(cacheKey);
+            if (!Arrays.equals(cacheKey, key))
+                return null;
+
+            Map<String, TaskListSnapshot> lists = new HashMap<>();
+            int listCount = buffer.getInt();
+            for (int i = 0; i < listCount; i++)
+            {
+                String name = readString(buffer);
+
+                int count = buffer.getInt();
+                List<TaskData> advancements = new ArrayList<>(count);
+                for (int j = 0; j < count; j++)
+                {
+                    Advancement advancement = Bukkit.getAdvancement(NamespacedKey.fromString(readString(buffer)));
+                    if (advancement != null)
+                        advancements.add(new AdvancementTask(advancement));
+                }
+
+                count = buffer.getInt();
+                List<TaskData> items = new ArrayList<>(count);
+                for (int j = 0; j < count; j++)
+                {
+                    Material material = Material.valueOf(readString(buffer));
+                    items.add(new ItemTask(material, buffer.getInt()));
+                }
+
+                count = buffer.getInt();
+                List<TaskData> statistics = new ArrayList<>(count);
+                for (int j = 0; j < count; j++)
+                {
+                    Statistic stat = Statistic.valueOf(readString(buffer));
+                    String entity = readString(buffer);
+                    String material = readString(buffer);
+                    BingoStatistic statistic = new BingoStatistic(stat,
+                            entity.isEmpty() ? null : EntityType.valueOf(entity),
+                            material.isEmpty() ? null : Material.valueOf(material));
+                    statistics.add(new StatisticTask(statistic, buffer.getInt()));
+                }
+
+                lists.put(name, TaskListSnapshot.of(advancements, items, statistics));
+            }
+            return lists;
+        }
+        catch (IOException | BufferUnderflowException | IllegalArgumentException e)
+        {
+            Message.warn("Could not read task list cache " + cacheFile.getName() + ", it will be created again (" + e.getMessage() + ")");
+            return null;
+        }
+    }
+
+    static void write(File cacheFile, byte[] key, Map<String, TaskListSnapshot> lists)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes))
+        {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeShort(key.length);
+            out.write(key);
+
+            out.writeInt(lists.size());
+            for (Map.Entry<String, TaskListSnapshot> list : lists.entrySet())
+            {
+                writeString(out, list.getKey());
+
+                List<AdvancementTask> advancements = new ArrayList<>();
+                for (TaskData task : list.getValue().advancements())
+                {
+                    if (task instanceof AdvancementTask advancementTask && advancementTask.advancement() != null)
+                        advancements.add(advancementTask);
+                }
+                out.writeInt(advancements.size());
+                for (AdvancementTask task : advancements)
+                {
+                    writeString(out, task.advancement().getKey().toString());
+                }
+
+                List<TaskData> items = list.getValue().items();
+                out.writeInt(items.size());
+                for (TaskData task : items)
+                {
+                    ItemTask itemTask = (ItemTask) task;
+                    writeString(out, itemTask.material().name());
+                    out.writeInt(itemTask.count());
+                }
+
+                List<TaskData> statistics = list.getValue().statistics();
+                out.writeInt(statistics.size());
+                for (TaskData task : statistics)
+                {
+                    StatisticTask statisticTask = (StatisticTask) task;
+                    BingoStatistic statistic = statisticTask.statistic();
+                    writeString(out, statistic.stat().name());
+                    writeString(out, statistic.entityType() == null ? "" : statistic.entityType().name());
+                    writeString(out, statistic.materialType() == null ? "" : statistic.materialType().name());
+                    out.writeInt(statisticTask.count());
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            Message.warn("Could not create task list cache: " + e.getMessage());
+            return;
+        }
+
+        try
+        {
+            AtomicFileWriter.write(cacheFile, bytes.toByteArray());
+        }
+        catch (IOException e)
+        {
+            Message.warn("Could not save task list cache " + cacheFile.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private static String readString(ByteBuffer buffer)
+    {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
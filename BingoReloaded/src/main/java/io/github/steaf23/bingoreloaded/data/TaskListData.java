@@ -2,13 +2,15 @@ package io.github.steaf23.bingoreloaded.data;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.helper.YmlDataManager;
-import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
-import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
 import io.github.steaf23.bingoreloaded.tasks.TaskData;
-
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import io.github.steaf23.bingoreloaded.util.Message;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
 import java.util.stream.Collectors;
 
 
@@ -19,15 +21,92 @@ public class TaskListData
 {
     private final YmlDataManager data = BingoReloaded.createYmlDataManager("data/" + BingoReloaded.getDefaultTasksVersion());
 
-    public Set<TaskData> getTasks(String listName, boolean withStatistics, boolean withAdvancements)
+    // Snapshots of all lists are shared by all instances, and are only valid for the loaded config they were created from.
+    private static Map<String, TaskListSnapshot> snapshots = null;
+    private static FileConfiguration snapshotsConfig = null;
+
+    /**
+     * @return an immutable list of the tasks in the list.
+     */
+    public List<TaskData> getTasks(String listName, boolean withStatistics, boolean withAdvancements)
+    {
+        return getSnapshots().getOrDefault(listName, TaskListSnapshot.EMPTY).get(withStatistics, withAdvancements);
+    }
+
+    /**
+     * Loads the task lists again if the lists file was changed by something else since they were last loaded.
+     */
+    public void reloadIfChanged()
+    {
+        getSnapshots();
+    }
+
+    private Map<String, TaskListSnapshot> getSnapshots()
+    {
+        synchronized (TaskListData.class)
+        {
+            // The data manager only loads the file again (creating a new config) when it was changed by something else,
+            // and it only checks for that once in a while, so this does not have to look at the file every time.
+            FileConfiguration config = data.getConfig();
+            if (snapshots != null && config == snapshotsConfig)
+                return snapshots;
+
+            // The file was changed by something else, cards generated from the old lists are outdated as well.
+            if (snapshots != null)
+                BingoCardData.markDataChanged();
+
+            snapshotsConfig = config;
+            snapshots = loadSnapshots(data.getFile());
+            return snapshots;
+        }
+    }
+
+    private Map<String, TaskListSnapshot> loadSnapshots(File source)
     {
-        if (!data.getConfig().contains(listName + ".tasks"))
-            return new HashSet<>();
+        // When there are unsaved changes, the lists file (and the cache created from it) is outdated.
+        if (data.hasPendingSave() || !source.exists())
+            return snapshotsFromConfig();
 
-        Set<TaskData> taskList = (Set<TaskData>)data.getConfig().getList(listName + ".tasks").stream().filter((i ->
-                !(i instanceof StatisticTask && !withStatistics) &&
-                !(i instanceof AdvancementTask && !withAdvancements))).collect(Collectors.toSet());
-        return taskList;
+        File cacheFile = new File(source.getParentFile(), "cache/" + source.getName() + ".bin");
+        byte[] key;
+        try
+        {
+            key = TaskListCache.createKey(Files.readAllBytes(source.toPath()), BingoReloaded.getDefaultTasksVersion() + Bukkit.getBukkitVersion());
+        }
+        catch (IOException e)
+        {
+            Message.warn("Could not read " + source.getName() + ": " + e.getMessage());
+            return snapshotsFromConfig();
+        }
+
+        Map<String, TaskListSnapshot> lists = TaskListCache.read(cacheFile, key);
+        if (lists != null)
+            return lists;
+
+        lists = snapshotsFromConfig();
+        TaskListCache.write(cacheFile, key, lists);
+        return lists;
+    }
+
+    private Map<String, TaskListSnapshot> snapshotsFromConfig()
+    {
+        Map<String, TaskListSnapshot> lists = new HashMap<>();
+        FileConfiguration config = data.getConfig();
+        for (String listName : config.getKeys(false))
+        {
+            if (config.contains(listName + ".tasks"))
+                lists.put(listName, TaskListSnapshot.of(config.getList(listName + ".tasks")));
+        }
+        return lists;
+    }
+
+    private static void invalidateSnapshots()
+    {
+        synchronized (TaskListData.class)
+        {
+            snapshots = null;
+        }
+        BingoCardData.markDataChanged();
     }
 
     public int getTaskCount(String listName)
@@ -37,7 +116,7 @@ public class TaskListData
 
     public void saveTasksFromGroup(String listName, List<TaskData> group, List<TaskData> tasksToSave)
     {
-        Set<TaskData> savedTasks = getTasks(listName, true, true);
+        Set<TaskData> savedTasks = new HashSet<>(getTasks(listName, true, true));
         Set<TaskData> tasksToRemove = group.stream().filter(t ->
         {
             return tasksToSave.stream().noneMatch(i -> i.equals(t));
@@ -62,6 +141,7 @@ public class TaskListData
         data.getConfig().set(listName + ".tasks", savedTasks.stream().collect(Collectors.toList()));
         data.getConfig().set(listName + ".size", savedTasks.size());
         data.saveConfig();
+        invalidateSnapshots();
     }
 
     public boolean removeList(String listName)
@@ -71,6 +151,7 @@ public class TaskListData
 
         data.getConfig().set(listName, null);
         data.saveConfig();
+        invalidateSnapshots();
         return true;
     }
 
@@ -82,6 +163,7 @@ public class TaskListData
         var list = data.getConfig().get(listName);
         data.getConfig().set(listName + "_copy", list);
         data.saveConfig();
+        invalidateSnapshots();
         return true;
     }
 
@@ -99,6 +181,7 @@ public class TaskListData
         data.getConfig().set(newName, list);
         data.getConfig().set(oldName, null);
         data.saveConfig();
+        invalidateSnapshots();
         return true;
     }
 
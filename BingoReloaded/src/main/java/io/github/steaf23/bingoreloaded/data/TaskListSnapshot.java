@@ -0,0 +1,77 @@
+package io.github.steaf23.bingoreloaded.data;
+
+import io.github.steaf23.bingoreloaded.tasks.AdvancementTask;
+import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
+
+import java.util.*;
+
+/**
+ * Immutable copy of the tasks in a single task list.
+ * Tasks are stored ordered by type (advancements, then items, then statistics),
+ * so that every combination of filters used when generating cards is a single slice of the same array.
+ */
+record TaskListSnapshot(TaskData[] tasks, int itemsStart, int statisticsStart)
+{
+    static final TaskListSnapshot EMPTY = new TaskListSnapshot(new TaskData[]{}, 0, 0);
+
+    static TaskListSnapshot of(Collection<?> tasks)
+    {
+        List<TaskData> advancements = new ArrayList<>();
+        List<TaskData> items = new ArrayList<>();
+        List<TaskData> statistics = new ArrayList<>();
+        Set<TaskData> added = new HashSet<>();
+        for (Object task : tasks)
+        {
+            if (!(task instanceof TaskData data) || !added.add(data))
+                continue;
+
+            if (data instanceof AdvancementTask advancementTask)
+            {
+                // Advancements that don't exist on this server are left out, the same way TaskListCache does when reading.
+                if (advancementTask.advancement() != null)
+                    advancements.add(data);
+            }
+            else if (data instanceof StatisticTask)
+                statistics.add(data);
+            else
+                items.add(data);
+        }
+        return of(advancements, items, statistics);
+    }
+
+    static TaskListSnapshot of(List<TaskData> advancements, List<TaskData> items, List<TaskData> statistics)
+    {
+        TaskData[] tasks = new TaskData[advancements.size() + items.size() + statistics.size()];
+        int idx = 0;
+        for (TaskData task : advancements)
+            tasks[idx++] = task;
+        for (TaskData task : items)
+            tasks[idx++] = task;
+        for (TaskData task : statistics)
+            tasks[idx++] = task;
+        return new TaskListSnapshot(tasks, advancements.size(), advancements.size() + items.size());
+    }
+
+    List<TaskData> get(boolean withStatistics, boolean withAdvancements)
+    {
+        int from = withAdvancements ? 0 : itemsStart;
+        int to = withStatistics ? tasks.length : statisticsStart;
+        return Collections.unmodifiableList(Arrays.asList(tasks).subList(from, to));
+    }
+
+    List<TaskData> advancements()
+    {
+        return Collections.unmodifiableList(Arrays.asList(tasks).subList(0, itemsStart));
+    }
+
+    List<TaskData> items()
+    {
+        return Collections.unmodifiableList(Arrays.asList(tasks).subList(itemsStart, statisticsStart));
+    }
+
+    List<TaskData> statistics()
+    {
+        return Collections.unmodifiableList(Arrays.asList(tasks).subList(statisticsStart, tasks.length));
+    }
+}
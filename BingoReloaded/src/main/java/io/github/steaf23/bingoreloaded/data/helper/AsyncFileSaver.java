@@ -0,0 +1,188 @@
+package io.github.steaf23.bingoreloaded.data.helper;
+
+import io.github.steaf23.bingoreloaded.util.Message;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Creates and writes file contents on a separate thread.
+ * All contents saved to the same file within WRITE_DELAY_MS of each other are written only once, using the latest contents,
+ * contents that get replaced before they are written are never created.
+ */
+public class AsyncFileSaver
+{
+    private static final long WRITE_DELAY_MS = 500;
+
+    private record PendingSave(Contents contents, long firstRequestNanos) {}
+
+    // Creates the contents once, on whichever thread needs them first.
+    private static class Contents
+    {
+        private Supplier<String> supplier;
+        private String contents;
+
+        Contents(Supplier<String> supplier)
+        {
+            this.supplier = supplier;
+        }
+
+        synchronized String get()
+        {
+            if (supplier != null)
+            {
+                contents = supplier.get();
+                supplier = null;
+            }
+            return contents;
+        }
+    }
+
+    private final Map<File, PendingSave> pendingSaves;
+    // Last modified time of each file right after this saver wrote it.
+    private final Map<File, Long> writtenModified;
+    private final ScheduledExecutorService executor;
+
+    private final AtomicLong requestedSaves;
+    private final AtomicLong performedWrites;
+    private final AtomicLong totalLatencyNanos;
+    private final AtomicLong maxLatencyNanos;
+
+    public AsyncFileSaver()
+    {
+        this.pendingSaves = new ConcurrentHashMap<>();
+        this.writtenModified = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BingoReloaded file saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.requestedSaves = new AtomicLong();
+        this.performedWrites = new AtomicLong();
+        this.totalLatencyNanos = new AtomicLong();
+        this.maxLatencyNanos = new AtomicLong();
+    }
+
+    /**
+     * Queue the contents to be written to the file, replacing any contents that have not been written yet.
+     * The contents are created on the saver's thread, so the supplier should not depend on anything that can still change.
+     */
+    public void save(File file, Supplier<String> supplier)
+    {
+        Contents contents = new Contents(supplier);
+        requestedSaves.incrementAndGet();
+        long now = System.nanoTime();
+        AtomicBoolean firstSave = new AtomicBoolean(false);
+        pendingSaves.compute(file, (f, previous) -> {
+            if (previous == null)
+            {
+                firstSave.set(true);
+                return new PendingSave(contents, now);
+            }
+            // Keep measuring latency from the first save that has not been written yet.
+            return new PendingSave(contents, previous.firstRequestNanos());
+        });
+
+        if (firstSave.get())
+        {
+            executor.schedule(() -> write(file), WRITE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return contents that are saved to this file but have not been written yet, or null if the file on disk is up to date.
+     * If the contents have not been created yet, they will be created on the calling thread.
+     */
+    @Nullable
+    public String getPendingContents(File file)
+    {
+        PendingSave save = pendingSaves.get(file);
+        return save == null ? null : save.contents().get();
+    }
+
+    /**
+     * @return true if contents were saved to this file that have not been written yet.
+     */
+    public boolean hasPendingSave(File file)
+    {
+        return pendingSaves.containsKey(file);
+    }
+
+    /**
+     * @return the last modified time of the file right after it was last written by this saver, or 0 if it has not been written.
+     */
+    public long getWrittenModified(File file)
+    {
+        return writtenModified.getOrDefault(file, 0L);
+    }
+
+    /**
+     * Writes all pending contents and stops the saver, blocking until everything has been written.
+     */
+    public void shutdown()
+    {
+        executor.shutdown();
+        try
+        {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS))
+            {
+                Message.error("Saving files took too long, some data may not have been saved!");
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        // Contents saved while the last writes were running could not be scheduled anymore, write those on this thread.
+        for (File file : pendingSaves.keySet())
+        {
+            write(file);
+        }
+    }
+
+    public String getStatistics()
+    {
+        long writes = performedWrites.get();
+        double averageMs = writes == 0 ? 0.0 : totalLatencyNanos.get() / (double)writes / 1_000_000.0;
+        return String.format("%d saves requested, %d files written, average save latency %.1fms, max %.1fms",
+                requestedSaves.get(), writes, averageMs, maxLatencyNanos.get() / 1_000_000.0);
+    }
+
+    private void write(File file)
+    {
+        PendingSave save = pendingSaves.get(file);
+        if (save == null)
+            return;
+
+        try
+        {
+            AtomicFileWriter.write(file, save.contents().get());
+            writtenModified.put(file, file.lastModified());
+        }
+        catch (IOException e)
+        {
+            Message.error("Could not save " + file.getName() + ": " + e.getMessage());
+        }
+
+        long latency = System.nanoTime() - save.firstRequestNanos();
+        performedWrites.incrementAndGet();
+        totalLatencyNanos.addAndGet(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+
+        // If new contents were saved while writing, they still have to be written.
+        if (!pendingSaves.remove(file, save) && !executor.isShutdown())
+        {
+            executor.schedule(() -> write(file), WRITE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+}
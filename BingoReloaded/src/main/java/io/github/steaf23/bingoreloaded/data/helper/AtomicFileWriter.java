@@ -0,0 +1,42 @@
+package io.github.steaf23.bingoreloaded.data.helper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes files by first writing to a temporary file next to the target and then moving it over the target,
+ * so that a crash or shutdown while writing never leaves a half written file behind.
+ */
+public class AtomicFileWriter
+{
+    public static void write(File target, String contents) throws IOException
+    {
+        write(target, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void write(File target, byte[] contents) throws IOException
+    {
+        Path targetPath = target.toPath();
+        Path parent = targetPath.toAbsolutePath().getParent();
+        if (parent != null)
+        {
+            Files.createDirectories(parent);
+        }
+
+        Path tempPath = targetPath.resolveSibling(target.getName() + ".tmp");
+        Files.write(tempPath, contents);
+        try
+        {
+            Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -2,24 +2,37 @@ package io.github.steaf23.bingoreloaded.data.helper;
 
 import io.github.steaf23.bingoreloaded.gui.EffectOptionFlags;
 import io.github.steaf23.bingoreloaded.util.Message;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.Plugin;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class YmlDataManager
 {
+    // When not null, saveConfig() only copies the config and leaves serializing and writing the file to this saver.
+    private static AsyncFileSaver asyncSaver = null;
+    // Minimum amount of milliseconds between checking if the file has been changed by something else.
+    private static final long MODIFIED_CHECK_INTERVAL_MS = 1000;
+
     private final Plugin plugin;
     private final String fileName;
     private FileConfiguration dataConfig = null;
     private File configFile = null;
+    // Last modified time of the file when it was loaded or saved by this manager.
+    private long loadedModified = 0;
+    private long lastModifiedCheck = 0;
 
     public YmlDataManager(Plugin plugin, String fileName)
     {
@@ -36,9 +49,63 @@ public class YmlDataManager
         }
     }
 
+    /**
+     * From now on, let all data managers write their files on a separate thread.
+     * Saves of the same file that happen shortly after each other will be combined into a single write.
+     */
+    public static void enableAsyncSaving()
+    {
+        if (asyncSaver == null)
+            asyncSaver = new AsyncFileSaver();
+    }
+
+    /**
+     * Writes all files that have been saved but not written yet, and goes back to saving files on the calling thread.
+     */
+    public static void flushAll()
+    {
+        if (asyncSaver == null)
+            return;
+
+        AsyncFileSaver saver = asyncSaver;
+        asyncSaver = null;
+        saver.shutdown();
+        Message.log("Data files: " + saver.getStatistics());
+    }
+
+    /**
+     * @return how many saves have been requested and written so far and how long it took to write them,
+     * or null if files are not being saved asynchronously.
+     */
+    @Nullable
+    public static String getSaveStatistics()
+    {
+        return asyncSaver == null ? null : asyncSaver.getStatistics();
+    }
+
     public void reloadConfig()
     {
-        dataConfig = YamlConfiguration.loadConfiguration(getConfigFile());
+        String pendingContents = asyncSaver == null ? null : asyncSaver.getPendingContents(getConfigFile());
+        if (pendingContents != null)
+        {
+            // The file on disk is outdated, use the contents that are about to be written instead.
+            YamlConfiguration config = new YamlConfiguration();
+            try
+            {
+                config.loadFromString(pendingContents);
+            }
+            catch (InvalidConfigurationException e)
+            {
+                Message.log(e.getMessage());
+            }
+            dataConfig = config;
+        }
+        else
+        {
+            dataConfig = YamlConfiguration.loadConfiguration(getConfigFile());
+            loadedModified = getConfigFile().lastModified();
+        }
+        lastModifiedCheck = System.currentTimeMillis();
 
         //create InputStream
         InputStream defaultStream = plugin.getResource(fileName);
@@ -49,21 +116,57 @@ public class YmlDataManager
         }
     }
 
+    /**
+     * @return the loaded config, which gets loaded again when the file was changed by anything other than a data manager.
+     * The returned instance changes every time the file gets loaded again.
+     */
     public FileConfiguration getConfig()
     {
-        if (dataConfig == null)
+        if (dataConfig == null || isModifiedExternally())
             reloadConfig();
 
         return dataConfig;
     }
 
+    private boolean isModifiedExternally()
+    {
+        long now = System.currentTimeMillis();
+        if (now - lastModifiedCheck < MODIFIED_CHECK_INTERVAL_MS)
+            return false;
+        lastModifiedCheck = now;
+
+        // Changes that have not been written yet are newer than whatever is on disk.
+        if (asyncSaver != null && asyncSaver.hasPendingSave(getConfigFile()))
+            return false;
+
+        long modified = getConfigFile().lastModified();
+        if (modified == loadedModified)
+            return false;
+        if (asyncSaver != null && modified == asyncSaver.getWrittenModified(getConfigFile()))
+        {
+            // We wrote this file ourselves.
+            loadedModified = modified;
+            return false;
+        }
+        return true;
+    }
+
     public void saveConfig()
     {
         if (dataConfig == null || configFile == null) return;
 
+        if (asyncSaver != null)
+        {
+            // Copying the values is much cheaper than serializing them, which is done by the saver on its own thread.
+            YamlConfiguration snapshot = copyConfig(getConfig());
+            asyncSaver.save(configFile, snapshot::saveToString);
+            return;
+        }
+
         try
         {
             getConfig().save(configFile);
+            loadedModified = configFile.lastModified();
         }
         catch (IOException e)
         {
@@ -71,6 +174,53 @@ public class YmlDataManager
         }
     }
 
+    public File getFile()
+    {
+        return getConfigFile();
+    }
+
+    /**
+     * @return true if this file has been saved but not written yet, meaning the file on disk is outdated.
+     */
+    public boolean hasPendingSave()
+    {
+        return asyncSaver != null && asyncSaver.hasPendingSave(getConfigFile());
+    }
+
+    /**
+     * @return a copy of the config, that does not change when the given config changes afterwards.
+     */
+    private static YamlConfiguration copyConfig(FileConfiguration source)
+    {
+        YamlConfiguration copy = new YamlConfiguration();
+        copy.options().setHeader(source.options().getHeader());
+        copy.options().setFooter(source.options().getFooter());
+        copySection(source, copy);
+        return copy;
+    }
+
+    private static void copySection(ConfigurationSection source, ConfigurationSection target)
+    {
+        for (String key : source.getKeys(false))
+        {
+            if (source.isConfigurationSection(key))
+            {
+                copySection(source.getConfigurationSection(key), target.createSection(key));
+            }
+            else
+            {
+                Object value = source.get(key);
+                if (value instanceof List<?> list)
+                    value = new ArrayList<>(list);
+                else if (value instanceof Map<?, ?> map)
+                    value = new LinkedHashMap<>(map);
+                target.set(key, value);
+            }
+            target.setComments(key, source.getComments(key));
+            target.setInlineComments(key, source.getInlineComments(key));
+        }
+    }
+
     public void saveDefaultConfig()
     {
         if (!getConfigFile().exists())
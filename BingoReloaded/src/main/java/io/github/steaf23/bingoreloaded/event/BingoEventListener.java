@@ -1,8 +1,12 @@
 package io.github.steaf23.bingoreloaded.event;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.cards.ActiveCardRegistry;
+import io.github.steaf23.bingoreloaded.data.BingoStatData;
 import io.github.steaf23.bingoreloaded.gameloop.BingoGame;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.gameloop.PregameLobby;
+import io.github.steaf23.bingoreloaded.player.BingoPlayer;
 import io.github.steaf23.bingoreloaded.tasks.statistics.StatisticTracker;
 import io.github.steaf23.bingoreloaded.util.Message;
 import org.bukkit.World;
@@ -13,9 +17,13 @@ import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.*;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.inventory.EquipmentSlot;
 
 import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 public class BingoEventListener implements Listener
@@ -24,17 +32,65 @@ public class BingoEventListener implements Listener
     private final boolean disableAdvancements;
     private final boolean disableStatistics;
 
+    // Resolved session for every world (including nether and end dimensions), worlds without a session are cached as null.
+    private final Map<World, BingoSession> sessionCache;
+    // Handlers for events that are only listened to while a game phase needs them, see GamePhase.getRequiredEvents().
+    private final PhaseEventRegistry phaseEvents;
+
     public BingoEventListener(Function<World, BingoSession> sessionResolver, boolean disableAdvancements, boolean disableStatistics)
     {
         this.sessionResolver = sessionResolver;
         this.disableAdvancements = disableAdvancements;
         this.disableStatistics = disableStatistics;
+        this.sessionCache = new IdentityHashMap<>();
+
+        this.phaseEvents = new PhaseEventRegistry();
+        phaseEvents.define(EntityDamageEvent.class, this::handleEntityDamage);
+        phaseEvents.define(PlayerDeathEvent.class, this::handlePlayerDeath);
+        phaseEvents.define(PlayerRespawnEvent.class, this::handlePlayerRespawn);
+        phaseEvents.define(PlayerAdvancementDoneEvent.class, this::handlePlayerAdvancementCompleted);
+        phaseEvents.define(EntityPickupItemEvent.class, this::handlePlayerPickupItem);
+        phaseEvents.define(InventoryClickEvent.class, this::handleInventoryClicked);
+        phaseEvents.define(PlayerItemDamageEvent.class, this::onPlayerItemDamaged);
+        phaseEvents.define(PlayerStatisticIncrementEvent.class, this::handleStatisticIncrement);
+        phaseEvents.define(PlayerMoveEvent.class, this::handlePlayerMove);
+    }
+
+    public PhaseEventRegistry getPhaseEvents()
+    {
+        return phaseEvents;
     }
 
     @Nullable
     private BingoSession getSession(World world)
     {
-        return sessionResolver.apply(world);
+        BingoSession session = sessionCache.get(world);
+        if (session != null || sessionCache.containsKey(world))
+            return session;
+
+        session = sessionResolver.apply(world);
+        sessionCache.put(world, session);
+        return session;
+    }
+
+    /**
+     * Should be called whenever a session gets created or destroyed, so that worlds will be resolved to the correct session again.
+     */
+    public void invalidateSessionCache()
+    {
+        sessionCache.clear();
+    }
+
+    @EventHandler
+    public void handleWorldLoad(final WorldLoadEvent event)
+    {
+        invalidateSessionCache();
+    }
+
+    @EventHandler
+    public void handleWorldUnload(final WorldUnloadEvent event)
+    {
+        invalidateSessionCache();
     }
 
     @EventHandler
@@ -92,7 +148,6 @@ public class BingoEventListener implements Listener
         session.phase().handlePlayerInteract(event);
     }
 
-    @EventHandler
     public void handleEntityDamage(final EntityDamageEvent event)
     {
         BingoSession session = getSession(event.getEntity().getWorld());
@@ -103,7 +158,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
     public void handlePlayerDeath(final PlayerDeathEvent event)
     {
         BingoSession session = getSession(event.getEntity().getWorld());
@@ -114,7 +168,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
     public void handlePlayerRespawn(final PlayerRespawnEvent event)
     {
         BingoSession session = getSession(event.getPlayer().getWorld());
@@ -135,21 +188,23 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
     public void handlePlayerAdvancementCompleted(final PlayerAdvancementDoneEvent event)
     {
         if (disableAdvancements)
             return;
 
+        // Most advancements (i.e. all recipe unlocks) are not on any card, so there is no need to look for the session
+        if (!ActiveCardRegistry.isAdvancementActive(event.getAdvancement().getKey()))
+            return;
+
         BingoSession session = getSession(event.getPlayer().getWorld());
         BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
         if (game != null)
         {
-            game.getCardEventManager().handlePlayerAdvancementCompleted(event, getSession(event.getPlayer().getWorld()));
+            game.getCardEventManager().handlePlayerAdvancementCompleted(event, session);
         }
     }
 
-    @EventHandler
     public void handlePlayerPickupItem(final EntityPickupItemEvent event)
     {
         BingoSession session = getSession(event.getEntity().getWorld());
@@ -160,7 +215,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
     public void handleInventoryClicked(final InventoryClickEvent event)
     {
         BingoSession session = getSession(event.getWhoClicked().getWorld());
@@ -174,6 +228,13 @@ public class BingoEventListener implements Listener
     @EventHandler
     public void handlePlayerJoinsServer(final PlayerJoinEvent event)
     {
+        BingoPlayer.invalidateSessionPlayers();
+        BingoStatData statData = BingoReloaded.getInstance().statData();
+        if (statData != null)
+        {
+            statData.updatePlayerName(event.getPlayer());
+        }
+
         BingoSession session = getSession(event.getPlayer().getWorld());
         if (session == null)
             return;
@@ -184,6 +245,10 @@ public class BingoEventListener implements Listener
     @EventHandler
     public void handlePlayerQuitsServer(final PlayerQuitEvent event)
     {
+        // The player is only removed from the server after this event, so invalidate again on the next tick.
+        BingoPlayer.invalidateSessionPlayers();
+        BingoReloaded.scheduleTask(t -> BingoPlayer.invalidateSessionPlayers());
+
         BingoSession session = getSession(event.getPlayer().getWorld());
         if (session == null)
             return;
@@ -191,9 +256,20 @@ public class BingoEventListener implements Listener
         session.handlePlayerQuitsServer(event);
     }
 
+    @EventHandler
+    public void handlePlayerChangedWorld(final PlayerChangedWorldEvent event)
+    {
+        BingoPlayer.invalidateSessionPlayers();
+    }
+
     @EventHandler
     public void handlePlayerTeleport(final PlayerTeleportEvent event)
     {
+        if (event.getFrom().getWorld() != event.getTo().getWorld())
+        {
+            BingoPlayer.invalidateSessionPlayers();
+        }
+
         // This event is special in the sense we need to catch the session both
         //    as the player is teleporting into a bingo world and teleporting out of a bingo world
         BingoSession session = getSession(event.getTo().getWorld());
@@ -209,7 +285,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
     public void onPlayerItemDamaged(PlayerItemDamageEvent event)
     {
         BingoSession session = getSession(event.getPlayer().getWorld());
@@ -219,12 +294,15 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
     public void handleStatisticIncrement(final PlayerStatisticIncrementEvent event)
     {
         if (disableStatistics)
             return;
 
+        // Most increments (i.e. walking around in the lobby) are not tracked by any game
+        if (!ActiveCardRegistry.isStatisticActive(event.getStatistic(), event.getMaterial(), event.getEntityType()))
+            return;
+
         BingoSession session = getSession(event.getPlayer().getWorld());
         BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
         if (game != null)
@@ -249,7 +327,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
     public void handlePlayerMove(final PlayerMoveEvent event)
     {
         BingoSession session = getSession(event.getPlayer().getWorld());
@@ -1,36 +1,172 @@
 package io.github.steaf23.bingoreloaded.event;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.gameloop.BingoGame;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.cards.BingoCard;
+import io.github.steaf23.bingoreloaded.cards.InventoryFingerprint;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.player.BingoPlayer;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
+import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerAdvancementDoneEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 
-import java.util.ArrayList;
-import java.util.List;
+import javax.annotation.Nullable;
+import java.util.*;
 
 
 public class CardEventManager
 {
-    private final List<BingoCard> cards;
+    // The card of each team in the game, in lockout every team maps to the same card.
+    private final Map<BingoTeam, BingoCard> teamCards;
     private String worldName;
 
+    // Everything that has to be checked for a single player at the end of this tick.
+    private static class PendingScan
+    {
+        boolean inventory = false;
+        // If false, only the item on the player's cursor has to be checked.
+        boolean fullInventory = false;
+        final List<Item> droppedItems = new ArrayList<>(0);
+    }
+
+    // Players whose items will be checked at the end of this tick.
+    private final Map<BingoPlayer, PendingScan> pendingScans;
+    private final Map<UUID, InventoryFingerprint> fingerprints;
+    private boolean scanScheduled;
+    private long requestedScans;
+    private long performedScans;
+    private long savedScans;
+
     public CardEventManager(String worldName)
     {
-        this.cards = new ArrayList<>();
+        this.teamCards = new IdentityHashMap<>();
         this.worldName = worldName;
+        this.pendingScans = new LinkedHashMap<>();
+        this.fingerprints = new HashMap<>();
+        this.scanScheduled = false;
+        this.requestedScans = 0;
+        this.performedScans = 0;
+        this.savedScans = 0;
+    }
+
+    public void setTeamCards(Iterable<BingoTeam> teams)
+    {
+        this.teamCards.clear();
+        for (BingoTeam team : teams)
+        {
+            if (team.card != null)
+                teamCards.put(team, team.card);
+        }
+    }
+
+    @Nullable
+    private BingoCard getCard(@Nullable BingoTeam team)
+    {
+        if (team == null)
+            return null;
+
+        return teamCards.get(team);
+    }
+
+    /**
+     * Schedule the player's inventory to be checked for completed tasks.
+     * All requests made for the same player during a single tick will result in only 1 scan of their inventory.
+     */
+    public void requestInventoryScan(BingoPlayer player, BingoGame game, boolean fullInventory)
+    {
+        requestedScans++;
+        PendingScan scan = getPendingScan(player, game);
+        if (scan.inventory)
+            savedScans++;
+        scan.inventory = true;
+        scan.fullInventory |= fullInventory;
+    }
+
+    /**
+     * Schedule the item dropped by the player to be checked for completed tasks at the end of this tick,
+     * together with any other items of the same player.
+     */
+    public void requestDroppedItemCheck(BingoPlayer player, BingoGame game, Item droppedItem)
+    {
+        getPendingScan(player, game).droppedItems.add(droppedItem);
+    }
+
+    private PendingScan getPendingScan(BingoPlayer player, BingoGame game)
+    {
+        PendingScan scan = pendingScans.computeIfAbsent(player, p -> new PendingScan());
+        if (!scanScheduled)
+        {
+            scanScheduled = true;
+            BingoReloaded.scheduleTask(task -> performInventoryScans(game));
+        }
+        return scan;
+    }
+
+    private void performInventoryScans(BingoGame game)
+    {
+        scanScheduled = false;
+        // Completing a task can cause new scans to be requested, so take the current requests out first.
+        Map<BingoPlayer, PendingScan> scans = new LinkedHashMap<>(pendingScans);
+        pendingScans.clear();
+
+        if (game.getSession() == null || game.getSession().phase() != game)
+            return;
+
+        scans.forEach((player, scan) -> {
+            BingoCard card = getCard(player.getTeam());
+            if (card == null)
+                return;
+
+            for (Item item : scan.droppedItems)
+            {
+                card.checkDroppedItem(item, player, game);
+            }
+
+            if (!scan.inventory)
+                return;
+
+            performedScans++;
+            InventoryFingerprint fingerprint = fingerprints.computeIfAbsent(player.getId(), id -> new InventoryFingerprint());
+            card.scanInventory(player, game, scan.fullInventory, fingerprint);
+        });
+    }
+
+    /**
+     * Makes the next scan of every player look at their whole inventory again,
+     * should be called when items that were not interesting before could now complete a task (i.e. when the death match starts).
+     */
+    public void invalidateInventoryFingerprints()
+    {
+        fingerprints.values().forEach(InventoryFingerprint::invalidate);
     }
 
-    public void setCards(List<BingoCard> newCards)
+    /**
+     * @return The amount of inventory scans that have been requested by events.
+     */
+    public long getRequestedScanCount()
     {
-        this.cards.clear();
-        this.cards.addAll(newCards);
+        return requestedScans;
+    }
+
+    /**
+     * @return The amount of inventory scans that have actually been performed.
+     */
+    public long getPerformedScanCount()
+    {
+        return performedScans;
+    }
+
+    /**
+     * @return The amount of inventory scans that were skipped, because another scan for the same player was already scheduled in that tick.
+     */
+    public long getSavedScanCount()
+    {
+        return savedScans;
     }
 
     public void handlePlayerAdvancementCompleted(final PlayerAdvancementDoneEvent event, final BingoSession session)
@@ -39,35 +175,27 @@ public class CardEventManager
         if (participant == null || !(participant instanceof BingoPlayer player) || !session.isRunning())
             return;
 
-        BingoTeam team = player.getTeam();
-        if (team == null)
+        BingoCard card = getCard(player.getTeam());
+        if (card == null)
             return;
 
         if (!(session.phase() instanceof BingoGame runningGame))
             return;
 
-        for (BingoCard card : cards)
-        {
-            if (team.card.equals(card))
-                card.onPlayerAdvancementDone(event, player, runningGame);
-        }
+        card.onPlayerAdvancementDone(event, player, runningGame);
     }
 
     public void handlePlayerDroppedItem(final PlayerDropItemEvent event, final BingoGame game)
     {
         BingoParticipant participant = game.getTeamManager().getPlayerAsParticipant(event.getPlayer());
-        if (participant == null || !(participant instanceof BingoPlayer player) || !player.sessionPlayer().isPresent())
+        if (participant == null || !(participant instanceof BingoPlayer player) || player.sessionPlayerOrNull() == null)
             return;
 
-        BingoTeam team = player.getTeam();
-        if (team == null)
+        BingoCard card = getCard(player.getTeam());
+        if (card == null)
             return;
 
-        for (BingoCard card : cards)
-        {
-            if (team.card.equals(card))
-                card.onPlayerDroppedItem(event, player, game);
-        }
+        card.onPlayerDroppedItem(event, player, game);
     }
 
     public void handlePlayerPickupItem(final EntityPickupItemEvent event, final BingoGame game)
@@ -76,18 +204,14 @@ public class CardEventManager
             return;
 
         BingoParticipant participant = game.getTeamManager().getPlayerAsParticipant(p);
-        if (participant == null || !(participant instanceof BingoPlayer player) || !player.sessionPlayer().isPresent())
+        if (participant == null || !(participant instanceof BingoPlayer player) || player.sessionPlayerOrNull() == null)
             return;
 
-        BingoTeam team = player.getTeam();
-        if (team == null)
+        BingoCard card = getCard(player.getTeam());
+        if (card == null)
             return;
 
-        for (BingoCard card : cards)
-        {
-            if (team.card.equals(card))
-                card.onPlayerCollectItem(event, player, game);
-        }
+        card.onPlayerCollectItem(event, player, game);
     }
 
     public void handleInventoryClicked(final InventoryClickEvent event, final BingoGame game)
@@ -96,33 +220,25 @@ public class CardEventManager
             return;
 
         BingoParticipant participant = game.getTeamManager().getPlayerAsParticipant(p);
-        if (participant == null || !(participant instanceof BingoPlayer player) || !player.sessionPlayer().isPresent())
+        if (participant == null || !(participant instanceof BingoPlayer player) || player.sessionPlayerOrNull() == null)
             return;
 
-        BingoTeam team = player.getTeam();
-        if (team == null)
+        BingoCard card = getCard(player.getTeam());
+        if (card == null)
             return;
 
-        for (BingoCard card : cards)
-        {
-            if (team.card.equals(card))
-                card.onInventoryClick(event, player, game);
-        }
+        card.onInventoryClick(event, player, game);
     }
 
     public void handleStatisticCompleted(final BingoStatisticCompletedEvent event, final BingoGame game)
     {
-        if (!event.player.sessionPlayer().isPresent())
+        if (event.player.sessionPlayerOrNull() == null)
             return;
 
-        BingoTeam team = event.player.getTeam();
-        if (team == null)
+        BingoCard card = getCard(event.player.getTeam());
+        if (card == null)
             return;
 
-        for (BingoCard card : cards)
-        {
-            if (team.card.equals(card))
-                card.onPlayerStatisticCompleted(event, event.player, game);
-        }
+        card.onPlayerStatisticCompleted(event, event.player, game);
     }
 }
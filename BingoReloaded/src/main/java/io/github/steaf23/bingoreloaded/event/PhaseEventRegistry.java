@@ -0,0 +1,99 @@
+package io.github.steaf23.bingoreloaded.event;
+
+import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.util.Message;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Events that are only needed during some game phases are not listened to all the time.
+ * Instead, the handler of such an event gets registered to bukkit when the first phase needs it,
+ * and unregistered again when no phase in any session needs it anymore.
+ */
+public class PhaseEventRegistry
+{
+    private static class PhaseEvent
+    {
+        final Consumer<Event> handler;
+        final Listener listener;
+        int users;
+
+        PhaseEvent(Consumer<Event> handler) {
+            this.handler = handler;
+            this.listener = new Listener() {};
+            this.users = 0;
+        }
+    }
+
+    private final Map<Class<? extends Event>, PhaseEvent> events;
+
+    public PhaseEventRegistry() {
+        this.events = new HashMap<>();
+    }
+
+    /**
+     * Define the handler to call for the given event class while any phase needs this event.
+     */
+    public <T extends Event> void define(Class<T> eventClass, Consumer<T> handler) {
+        events.put(eventClass, new PhaseEvent(event -> handler.accept(eventClass.cast(event))));
+    }
+
+    public void acquire(Collection<Class<? extends Event>> eventClasses) {
+        eventClasses.forEach(this::acquire);
+    }
+
+    public void release(Collection<Class<? extends Event>> eventClasses) {
+        eventClasses.forEach(this::release);
+    }
+
+    public void acquire(Class<? extends Event> eventClass) {
+        PhaseEvent event = events.get(eventClass);
+        if (event == null) {
+            Message.warn("No handler has been defined for " + eventClass.getSimpleName() + ", it cannot be used by a game phase!");
+            return;
+        }
+
+        event.users++;
+        if (event.users == 1) {
+            Bukkit.getPluginManager().registerEvent(eventClass, event.listener, EventPriority.NORMAL, (listener, e) -> {
+                // Subclasses of this event can share the same handler list, only handle the events we asked for.
+                if (eventClass.isInstance(e)) {
+                    event.handler.accept(e);
+                }
+            }, BingoReloaded.getInstance());
+        }
+    }
+
+    public void release(Class<? extends Event> eventClass) {
+        PhaseEvent event = events.get(eventClass);
+        if (event == null || event.users == 0)
+            return;
+
+        event.users--;
+        if (event.users == 0) {
+            HandlerList.unregisterAll(event.listener);
+        }
+    }
+
+    public boolean isRegistered(Class<? extends Event> eventClass) {
+        PhaseEvent event = events.get(eventClass);
+        return event != null && event.users > 0;
+    }
+
+    public void unregisterAll() {
+        for (PhaseEvent event : events.values()) {
+            if (event.users > 0) {
+                HandlerList.unregisterAll(event.listener);
+            }
+            event.users = 0;
+        }
+    }
+}
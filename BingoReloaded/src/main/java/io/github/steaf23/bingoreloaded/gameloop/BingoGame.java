@@ -1,8 +1,10 @@
 package io.github.steaf23.bingoreloaded.gameloop;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.cards.ActiveCardRegistry;
 import io.github.steaf23.bingoreloaded.cards.BingoCard;
 import io.github.steaf23.bingoreloaded.cards.CardBuilder;
+import io.github.steaf23.bingoreloaded.cards.CardLayout;
 import io.github.steaf23.bingoreloaded.cards.LockoutBingoCard;
 import io.github.steaf23.bingoreloaded.data.BingoCardData;
 import io.github.steaf23.bingoreloaded.data.BingoStatType;
@@ -32,16 +34,18 @@ import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.*;
 import org.bukkit.block.Biome;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.*;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class BingoGame implements GamePhase
 {
@@ -59,8 +63,10 @@ public class BingoGame implements GamePhase
     private boolean hasTimerStarted;
 
     private BingoTask deathMatchTask;
+    // Layouts of the cards to hand out when starting, a single layout when all teams share the same card.
+    private List<CardLayout> cardLayouts;
 
-    public BingoGame(BingoSession session, BingoSettings settings, ConfigData config) {
+    public BingoGame(BingoSession session, BingoSettings settings, ConfigData config, List<CardLayout> cardLayouts) {
         this.session = session;
         this.config = config;
         this.worldName = session.worldName;
@@ -68,9 +74,10 @@ public class BingoGame implements GamePhase
         this.scoreboard = session.scoreboard;
         this.settings = settings;
         this.deadPlayers = new HashMap<>();
+        this.cardLayouts = cardLayouts;
         this.cardEventManager = new CardEventManager(worldName);
         if (!config.disableStatistics)
-            this.statTracker = new StatisticTracker(worldName);
+            this.statTracker = new StatisticTracker(worldName, config.statisticPollsPerTick);
         else
             this.statTracker = null;
     }
@@ -89,8 +96,6 @@ public class BingoGame implements GamePhase
                 var p = participant.sessionPlayer();
                 p.ifPresent(value -> Message.sendActionMessage(timerMessage, value));
             }
-            if (statTracker != null)
-                statTracker.updateProgress();
         });
 
         deathMatchTask = null;
@@ -101,23 +106,40 @@ public class BingoGame implements GamePhase
         world.setStorm(false);
         world.setTime(1000);
 
-        // Generate cards
-        boolean useAdvancements = !(BingoReloaded.areAdvancementsDisabled() || config.disableAdvancements);
-        BingoCard masterCard = CardBuilder.fromMode(session.getMenuManager(), settings.mode(), settings.size(), getTeamManager());
-        masterCard.generateCard(settings.card(), settings.seed(), useAdvancements, !config.disableStatistics);
-        if (masterCard instanceof LockoutBingoCard lockoutCard) {
-            lockoutCard.teamCount = teamManager.getTeamCount();
+        // Sort the teams so that each team gets the same unique card every time a game is played with the same seed.
+        List<BingoTeam> teams = new ArrayList<>();
+        teamManager.getActiveTeams().forEach(teams::add);
+        teams.sort(Comparator.comparing(BingoTeam::getIdentifier));
+
+        // The layouts are generated by the lobby before the game starts, so no cards have to be generated here.
+        boolean uniqueCards = CardPregenerator.Request.of(settings, config, teams.size()).uniqueCards();
+        if (uniqueCards && cardLayouts.size() < teams.size()) {
+            Message.warn("Only " + cardLayouts.size() + " unique cards were generated for " + teams.size() + " teams, some teams will share a card");
         }
-        teamManager.getActiveTeams().forEach(t -> {
-            t.outOfTheGame = false;
-            t.card = masterCard.copy();
-        });
 
-        Set<BingoCard> cards = new HashSet<>();
-        for (BingoTeam activeTeam : getTeamManager().getActiveTeams()) {
-            cards.add(activeTeam.card);
+        // Give cards
+        if (uniqueCards) {
+            for (int i = 0; i < teams.size(); i++) {
+                BingoTeam team = teams.get(i);
+                team.outOfTheGame = false;
+                team.card = CardBuilder.fromMode(session.getMenuManager(), settings.mode(), settings.size(), getTeamManager());
+                team.card.setLayout(cardLayouts.get(i % cardLayouts.size()));
+            }
+        } else {
+            BingoCard masterCard = CardBuilder.fromMode(session.getMenuManager(), settings.mode(), settings.size(), getTeamManager());
+            masterCard.setLayout(cardLayouts.get(0));
+            if (masterCard instanceof LockoutBingoCard lockoutCard) {
+                lockoutCard.teamCount = teamManager.getTeamCount();
+            }
+            for (BingoTeam team : teams) {
+                team.outOfTheGame = false;
+                team.card = masterCard.copy();
+            }
         }
-        cardEventManager.setCards(cards.stream().collect(Collectors.toList()));
+        teamManager.getActiveTeams().resetStandings();
+        ActiveCardRegistry.register(this, cardLayouts);
+
+        cardEventManager.setTeamCards(getTeamManager().getActiveTeams());
 
         if (statTracker != null)
             statTracker.start(getTeamManager().getActiveTeams());
@@ -182,6 +204,7 @@ public class BingoGame implements GamePhase
     public void end(@Nullable BingoTeam winningTeam) {
         // If the starting timer was still running
         startingTimer.stop();
+        ActiveCardRegistry.unregister(this);
 
         if (statTracker != null)
             statTracker.reset();
@@ -271,6 +294,8 @@ public class BingoGame implements GamePhase
     private void startDeathMatchRecurse(int countdown) {
         if (countdown == 0) {
             deathMatchTask = new BingoTask(new BingoCardData().getRandomItemTask(settings.card()));
+            // Items that were ignored until now could be the death match item.
+            cardEventManager.invalidateInventoryFingerprints();
 
             for (BingoParticipant p : getTeamManager().getParticipants()) {
                 if (p.sessionPlayer().isEmpty())
@@ -295,11 +320,12 @@ public class BingoGame implements GamePhase
             default -> ChatColor.GREEN;
         };
         for (BingoParticipant p : getTeamManager().getParticipants()) {
-            if (p.sessionPlayer().isEmpty())
+            Player player = p.sessionPlayerOrNull();
+            if (player == null)
                 continue;
 
-            Message.sendTitleMessage(color + "" + countdown, "", p.sessionPlayer().get());
-            Message.sendDebug(color + "" + countdown, p.sessionPlayer().get());
+            Message.sendTitleMessage(color + "" + countdown, "", player);
+            Message.sendDebug(color + "" + countdown, player);
         }
 
         BingoReloaded.scheduleTask(task -> {
@@ -490,12 +516,12 @@ public class BingoGame implements GamePhase
         }
 
         // Start death match when all tasks have been completed in lockout
-        BingoCard card = teamManager.getActiveTeams().getLeadingTeam().card;
+        BingoCard card = event.getParticipant().getTeam().card;
         if (!(card instanceof LockoutBingoCard lockoutCard)) {
             return;
         }
 
-        if (teamManager.getActiveTeams().getTotalCompleteCount() == lockoutCard.size.fullCardSize) {
+        if (lockoutCard.getTotalCompleteCount() == lockoutCard.size.fullCardSize) {
             startDeathMatch(5);
         }
     }
@@ -625,6 +651,10 @@ public class BingoGame implements GamePhase
         } else if (event.getTimer() == startingTimer) {
             timer.start();
             hasTimerStarted = true;
+            // Players no longer have to be held in place.
+            session.updatePhaseEvents();
+            if (statTracker != null)
+                statTracker.startPolling();
             teamManager.getParticipants().forEach(p -> p.sessionPlayer().ifPresent(gamePlayer -> {
                 gamePlayer.playSound(gamePlayer, Sound.ENTITY_FIREWORK_ROCKET_LARGE_BLAST, 0.8f, 1.0f);
                 gamePlayer.playSound(gamePlayer, Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 0.8f, 1.0f);
@@ -667,6 +697,24 @@ public class BingoGame implements GamePhase
         end(null);
     }
 
+    @Override
+    public Set<Class<? extends Event>> getRequiredEvents() {
+        Set<Class<? extends Event>> events = new HashSet<>(List.of(
+                EntityDamageEvent.class,
+                PlayerDeathEvent.class,
+                PlayerRespawnEvent.class,
+                EntityPickupItemEvent.class,
+                InventoryClickEvent.class,
+                PlayerItemDamageEvent.class));
+        if (statTracker != null)
+            events.add(PlayerStatisticIncrementEvent.class);
+        if (!config.disableAdvancements && !BingoReloaded.areAdvancementsDisabled())
+            events.add(PlayerAdvancementDoneEvent.class);
+        if (!hasTimerStarted)
+            events.add(PlayerMoveEvent.class);
+        return events;
+    }
+
     @Override
     public void handlePlayerJoinedSessionWorld(final PlayerJoinedSessionWorldEvent event) {
         BingoParticipant participant = teamManager.getPlayerAsParticipant(event.getPlayer());
@@ -50,7 +50,7 @@ public class BingoScoreboard implements SessionMember
             {
                 if (t.card != null)
                 {
-                    objective.getScore(t.getIdentifier()).setScore(t.card.getCompleteCount(t));
+                    objective.getScore(t.getIdentifier()).setScore(t.getCompleteCount());
                 }
             }
             updateVisual();
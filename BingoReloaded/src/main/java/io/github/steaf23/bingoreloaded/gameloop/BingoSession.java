@@ -1,6 +1,7 @@
 package io.github.steaf23.bingoreloaded.gameloop;
 
 import io.github.steaf23.bingoreloaded.*;
+import io.github.steaf23.bingoreloaded.cards.CardLayout;
 import io.github.steaf23.bingoreloaded.data.*;
 import io.github.steaf23.bingoreloaded.data.helper.SerializablePlayer;
 import io.github.steaf23.bingoreloaded.event.*;
@@ -18,10 +19,15 @@ import io.github.steaf23.bingoreloaded.util.TranslatedMessage;
 import net.md_5.bungee.api.ChatColor;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
 import org.bukkit.event.player.*;
 import org.bukkit.potion.PotionEffectType;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * This class represents a session of bingo games on a single world(group).
  * A game world can/ should only have 1 session since bingo events for a session are propagated through the world
@@ -38,6 +44,8 @@ public class BingoSession
     private final SessionManager gameManager;
 
     private GamePhase phase;
+    // Events currently acquired from the PhaseEventRegistry on behalf of the current phase.
+    private Set<Class<? extends Event>> phaseEvents;
 
     public BingoSession(SessionManager gameManager, MenuManager menuManager, String worldName, ConfigData config, PlayerData playerData) {
         this.gameManager = gameManager;
@@ -45,6 +53,7 @@ public class BingoSession
         this.worldName = worldName;
         this.config = config;
         this.playerData = playerData;
+        this.phaseEvents = Set.of();
         this.settingsBuilder = new BingoSettingsBuilder(this);
         settingsBuilder.fromOther(new BingoSettingsData().getSettings(config.defaultSettingsPreset));
         this.scoreboard = new BingoScoreboard(this, config.showPlayerInScoreboard && false);
@@ -94,11 +103,13 @@ public class BingoSession
 
         scoreboard.updateTeamScores();
 
+        BingoSettings finalSettings = gameSettings == null ? settings : gameSettings.view();
+        List<CardLayout> cards = lobby.takeCards(finalSettings);
+
         // First make sure the previous phase (PregameLobby) is ended.
         phase.end();
 
-        phase = new BingoGame(this, gameSettings == null ? settings : gameSettings.view(), config);
-        phase.setup();
+        setPhase(new BingoGame(this, finalSettings, config, cards));
     }
 
     public void endGame() {
@@ -121,8 +132,33 @@ public class BingoSession
             phase.end();
         }
 
-        phase = new PregameLobby(menuManager, this, config);
+        setPhase(new PregameLobby(menuManager, this, config));
+    }
+
+    private void setPhase(GamePhase newPhase) {
+        phase = newPhase;
         phase.setup();
+        updatePhaseEvents();
+    }
+
+    /**
+     * Makes sure only the events required by the current phase are being listened to.
+     * Should be called by the phase itself when its required events change.
+     */
+    public void updatePhaseEvents() {
+        Set<Class<? extends Event>> required = phase.getRequiredEvents();
+        if (required.equals(phaseEvents))
+            return;
+
+        PhaseEventRegistry registry = gameManager.getPhaseEvents();
+        Set<Class<? extends Event>> released = new HashSet<>(phaseEvents);
+        released.removeAll(required);
+        Set<Class<? extends Event>> acquired = new HashSet<>(required);
+        acquired.removeAll(phaseEvents);
+
+        registry.acquire(acquired);
+        registry.release(released);
+        phaseEvents = Set.copyOf(required);
     }
 
     public void removeParticipant(@NonNull BingoParticipant player) {
@@ -130,8 +166,7 @@ public class BingoSession
     }
 
     public void handleGameEnded(final BingoEndedEvent event) {
-        phase = new PostGamePhase(this, config.gameRestartTime);
-        phase.setup();
+        setPhase(new PostGamePhase(this, config.gameRestartTime));
     }
 
     public void handleSettingsUpdated(final BingoSettingsUpdatedEvent event) {
@@ -0,0 +1,132 @@
+package io.github.steaf23.bingoreloaded.gameloop;
+
+import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.cards.CardGenerator;
+import io.github.steaf23.bingoreloaded.cards.CardLayout;
+import io.github.steaf23.bingoreloaded.cards.CardSize;
+import io.github.steaf23.bingoreloaded.data.BingoCardData;
+import io.github.steaf23.bingoreloaded.data.ConfigData;
+import io.github.steaf23.bingoreloaded.settings.BingoGamemode;
+import io.github.steaf23.bingoreloaded.settings.BingoSettings;
+import io.github.steaf23.bingoreloaded.util.Message;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Generates the layouts of the next cards while players are still waiting in the lobby,
+ * so that starting the game only has to hand out the finished cards.
+ */
+public class CardPregenerator
+{
+    // Maximum amount of milliseconds to wait for layouts that are still being generated, before generating them again on the calling thread.
+    private static final long MAX_WAIT_MS = 2000;
+
+    /**
+     * Everything that determines which layouts get generated, requests that are equal result in the same kind of cards.
+     *
+     * @param uniqueCards true if every team gets a different card, false if all teams share a single card.
+     * @param cardCount amount of layouts to generate, always 1 when the teams share a card.
+     * @param dataVersion version of the card and task list data at the time of the request, layouts generated from older data are outdated.
+     */
+    public record Request(String card, CardSize size, int seed, boolean withAdvancements, boolean withStatistics, boolean uniqueCards, int cardCount, long dataVersion)
+    {
+        public static Request of(BingoSettings settings, ConfigData config, int teamCount) {
+            boolean withAdvancements = !(BingoReloaded.areAdvancementsDisabled() || config.disableAdvancements);
+            // In lockout every team has to play on the same card.
+            boolean unique = config.uniqueTeamCards && settings.mode() != BingoGamemode.LOCKOUT;
+            return new Request(settings.card(), settings.size(), settings.seed(), withAdvancements, !config.disableStatistics,
+                    unique, unique ? Math.max(1, teamCount) : 1, BingoCardData.getDataVersion());
+        }
+
+        /**
+         * @return true if the layouts generated for this request can be used for the other request.
+         * Since unique layouts only depend on their index, a request for more cards covers requests for fewer cards.
+         */
+        public boolean covers(Request other) {
+            return card.equals(other.card)
+                    && size == other.size
+                    && seed == other.seed
+                    && withAdvancements == other.withAdvancements
+                    && withStatistics == other.withStatistics
+                    && uniqueCards == other.uniqueCards
+                    && cardCount >= other.cardCount
+                    && dataVersion == other.dataVersion;
+        }
+    }
+
+    private Request request;
+    private CompletableFuture<List<CardLayout>> layouts;
+
+    /**
+     * Starts generating layouts for the given request on a worker thread, replacing the layouts of any previous request.
+     * Has to be called from the main thread, since the card data is read before generating (which is only a lookup if the card was loaded before).
+     */
+    public void pregenerate(Request request) {
+        if (this.request != null && this.request.covers(request) && !layouts.isCompletedExceptionally()) {
+            return;
+        }
+
+        cancel();
+        CardGenerator generator = CardGenerator.load(request.card(), request.withAdvancements(), request.withStatistics());
+        this.request = request;
+        this.layouts = CompletableFuture.supplyAsync(() -> generate(generator, request));
+        layouts.exceptionally(e -> {
+            if (!(e instanceof CancellationException))
+                Message.warn("Could not pregenerate card " + request.card() + " (" + e.getMessage() + ")");
+            return null;
+        });
+    }
+
+    /**
+     * @return the layouts generated for the given request, one for each team when the request is for unique cards.
+     * If the layouts are still being generated, this waits for them to finish.
+     * Only if no layouts were requested in advance for these settings (or generating them failed) they will be generated right now instead.
+     * Any pregenerated layouts are discarded after calling this method.
+     */
+    public List<CardLayout> take(Request request) {
+        List<CardLayout> result = null;
+        if (this.request != null && this.request.covers(request)) {
+            result = await(layouts, request);
+        }
+        if (result == null) {
+            result = generate(CardGenerator.load(request.card(), request.withAdvancements(), request.withStatistics()), request);
+        }
+        cancel();
+        return result;
+    }
+
+    private static List<CardLayout> await(CompletableFuture<List<CardLayout>> layouts, Request request) {
+        try {
+            List<CardLayout> result = layouts.get(MAX_WAIT_MS, TimeUnit.MILLISECONDS);
+            return result == null ? null : result.subList(0, request.cardCount());
+        } catch (TimeoutException e) {
+            Message.warn("Pregenerating card " + request.card() + " took too long, generating it again");
+            return null;
+        } catch (ExecutionException | CancellationException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    public void cancel() {
+        if (layouts != null) {
+            layouts.cancel(false);
+        }
+        request = null;
+        layouts = null;
+    }
+
+    private static List<CardLayout> generate(CardGenerator generator, Request request) {
+        if (request.uniqueCards()) {
+            return generator.generateUnique(request.size(), request.seed(), request.cardCount());
+        }
+        return List.of(generator.generate(request.size(), request.seed()));
+    }
+}
@@ -1,8 +1,11 @@
 package io.github.steaf23.bingoreloaded.gameloop;
 
 import io.github.steaf23.bingoreloaded.event.*;
+import org.bukkit.event.Event;
 import org.bukkit.event.player.PlayerInteractEvent;
 
+import java.util.Set;
+
 public interface GamePhase extends SessionMember
 {
     void setup();
@@ -10,6 +13,11 @@ public interface GamePhase extends SessionMember
      * To be called when this phase needs to (forcefully) end.
      */
     void end();
+    /**
+     * @return All events (defined in the PhaseEventRegistry) that have to be listened to during this phase.
+     * When this set changes during the phase, BingoSession.updatePhaseEvents() should be called.
+     */
+    Set<Class<? extends Event>> getRequiredEvents();
     void handlePlayerJoinedSessionWorld(final PlayerJoinedSessionWorldEvent event);
     void handlePlayerLeftSessionWorld(final PlayerLeftSessionWorldEvent event);
     void handleSettingsUpdated(final BingoSettingsUpdatedEvent event);
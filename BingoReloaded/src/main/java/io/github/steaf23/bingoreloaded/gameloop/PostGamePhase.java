@@ -9,9 +9,12 @@ import io.github.steaf23.bingoreloaded.util.Message;
 import io.github.steaf23.bingoreloaded.util.TranslatedMessage;
 import io.github.steaf23.bingoreloaded.util.timer.CountdownTimer;
 import net.md_5.bungee.api.ChatColor;
+import org.bukkit.event.Event;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Set;
+
 public class PostGamePhase implements GamePhase
 {
     private final CountdownTimer timer;
@@ -39,6 +42,11 @@ public class PostGamePhase implements GamePhase
         restartMessage(timer.getTime()).sendAll(session);
     }
 
+    @Override
+    public Set<Class<? extends Event>> getRequiredEvents() {
+        return Set.of();
+    }
+
     @Override
     public void end() {
     }
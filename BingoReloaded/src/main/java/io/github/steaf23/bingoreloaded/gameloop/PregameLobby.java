@@ -1,6 +1,7 @@
 package io.github.steaf23.bingoreloaded.gameloop;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.cards.CardLayout;
 import io.github.steaf23.bingoreloaded.data.BingoTranslation;
 import io.github.steaf23.bingoreloaded.data.ConfigData;
 import io.github.steaf23.bingoreloaded.data.TeamData;
@@ -10,6 +11,7 @@ import io.github.steaf23.bingoreloaded.gui.VoteMenu;
 import io.github.steaf23.bingoreloaded.gui.base.MenuItem;
 import io.github.steaf23.bingoreloaded.gui.base.MenuManager;
 import io.github.steaf23.bingoreloaded.settings.BingoGamemode;
+import io.github.steaf23.bingoreloaded.settings.BingoSettings;
 import io.github.steaf23.bingoreloaded.settings.PlayerKit;
 import io.github.steaf23.bingoreloaded.settings.SettingsPreviewBoard;
 import io.github.steaf23.bingoreloaded.util.Message;
@@ -20,12 +22,14 @@ import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public class PregameLobby implements GamePhase
@@ -48,6 +52,7 @@ public class PregameLobby implements GamePhase
     private final ConfigData config;
     private final MenuManager menuManager;
     private final CountdownTimer playerCountTimer;
+    private final CardPregenerator cardPregenerator;
 
     private boolean gameStarted = false;
 
@@ -58,6 +63,7 @@ public class PregameLobby implements GamePhase
         this.votes = new HashMap<>();
         this.config = config;
         this.playerCountTimer = new CountdownTimer(config.playerWaitTime, session);
+        this.cardPregenerator = new CardPregenerator();
         playerCountTimer.setNotifier(time -> {
             settingsBoard.setStatus(BingoTranslation.STARTING_STATUS.translate(String.valueOf(time)));
             if (time == 10) {
@@ -85,6 +91,7 @@ public class PregameLobby implements GamePhase
 
         ticket.gamemode = gamemode;
         votes.put(player.getUniqueId(), ticket);
+        pregenerateCard();
 
         int count = 0;
         for (VoteTicket t : votes.values()) {
@@ -113,6 +120,7 @@ public class PregameLobby implements GamePhase
 
         ticket.card = card;
         votes.put(player.getUniqueId(), ticket);
+        pregenerateCard();
 
         int count = 0;
         for (VoteTicket t : votes.values()) {
@@ -172,6 +180,33 @@ public class PregameLobby implements GamePhase
         return outcome;
     }
 
+    /**
+     * Starts generating the card for the settings the game would start with right now, when those settings changed since the last call.
+     */
+    private void pregenerateCard() {
+        if (gameStarted) {
+            return;
+        }
+
+        BingoSettings settings = session.settingsBuilder.view();
+        VoteTicket voteResult = getVoteResult();
+        if (config.useVoteSystem && !voteResult.isEmpty()) {
+            settings = session.settingsBuilder.getVoteResult(voteResult).view();
+        }
+        // Every team has at least one participant, so this is enough cards for any team setup when every team gets a unique card.
+        int teamCount = session.teamManager.getParticipants().size();
+        cardPregenerator.pregenerate(CardPregenerator.Request.of(settings, config, teamCount));
+    }
+
+    /**
+     * @return the card layouts for a game using the given settings, one for each team if every team gets a unique card.
+     * Waits for layouts that are still being generated, layouts are only generated right now if they were not generated in advance for these settings.
+     * Has to be called after the teams are set up, so that every team gets a card.
+     */
+    public List<CardLayout> takeCards(BingoSettings settings) {
+        return cardPregenerator.take(CardPregenerator.Request.of(settings, config, session.teamManager.getTeamCount()));
+    }
+
     private String getKeyWithHighestValue(Map<String, Integer> values) {
         String recordKey = "";
         for (var k : values.keySet()) {
@@ -214,6 +249,7 @@ public class PregameLobby implements GamePhase
             });
         }
 
+        pregenerateCard();
         startPlayerCountTimerIfMinCountReached();
     }
 
@@ -269,6 +305,7 @@ public class PregameLobby implements GamePhase
         } else {
             settingsBoard.setStatus(BingoTranslation.PLAYER_STATUS.translate("" + playerCount));
         }
+        pregenerateCard();
 
         BingoReloaded.scheduleTask((t) -> {
             if (gameStarted) {
@@ -286,9 +323,15 @@ public class PregameLobby implements GamePhase
         }, 10);
     }
 
+    @Override
+    public Set<Class<? extends Event>> getRequiredEvents() {
+        return Set.of();
+    }
+
     @Override
     public void end() {
         playerCountTimer.stop();
+        cardPregenerator.cancel();
     }
 
     @Override
@@ -305,6 +348,8 @@ public class PregameLobby implements GamePhase
     @Override
     public void handleSettingsUpdated(final BingoSettingsUpdatedEvent event) {
         settingsBoard.handleSettingsUpdated(event);
+        // The session only applies the new settings after all phases have handled the event.
+        BingoReloaded.scheduleTask(t -> pregenerateCard());
     }
 
     @Override
@@ -1,6 +1,7 @@
 package io.github.steaf23.bingoreloaded.gameloop;
 
 import io.github.steaf23.bingoreloaded.data.ConfigData;
+import io.github.steaf23.bingoreloaded.event.PhaseEventRegistry;
 import io.github.steaf23.bingoreloaded.gui.base.MenuManager;
 
 import javax.annotation.Nullable;
@@ -14,5 +15,7 @@ public interface SessionManager
 
     ConfigData getConfig();
 
+    PhaseEventRegistry getPhaseEvents();
+
     void onDisable();
 }
@@ -4,6 +4,7 @@ import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.ConfigData;
 import io.github.steaf23.bingoreloaded.data.PlayerData;
 import io.github.steaf23.bingoreloaded.event.BingoEventListener;
+import io.github.steaf23.bingoreloaded.event.PhaseEventRegistry;
 import io.github.steaf23.bingoreloaded.gameloop.SessionManager;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.gui.base.MenuManager;
@@ -41,9 +42,15 @@ public class MultiGameManager implements SessionManager
         return config;
     }
 
+    @Override
+    public PhaseEventRegistry getPhaseEvents() {
+        return eventListener.getPhaseEvents();
+    }
+
     @Override
     public void onDisable() {
         HandlerList.unregisterAll(eventListener);
+        eventListener.getPhaseEvents().unregisterAll();
     }
 
     public boolean createSession(String worldName, String presetName) {
@@ -54,6 +61,7 @@ public class MultiGameManager implements SessionManager
 
         BingoSession session = new BingoSession(this, getMenuManager(), worldName, config, playerData);
         sessions.put(worldName, session);
+        eventListener.invalidateSessionCache();
         return true;
     }
 
@@ -64,6 +72,7 @@ public class MultiGameManager implements SessionManager
 
         endGame(worldName);
         sessions.remove(worldName);
+        eventListener.invalidateSessionCache();
         return true;
     }
 
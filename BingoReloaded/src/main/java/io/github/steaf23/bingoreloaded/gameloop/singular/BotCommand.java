@@ -87,13 +87,13 @@ public class BotCommand implements TabExecutor
 
         BingoCard card = player.getTeam().card;
 
-        if (taskIndex >= card.tasks.size()) {
+        if (taskIndex >= card.getTaskCount()) {
             Message.log(ChatColor.RED + "index out of bounds for task list!");
             return;
         }
 
-        card.tasks.get(taskIndex).complete(player, ((BingoGame) player.getSession().phase()).getGameTime());
-        var slotEvent = new BingoCardTaskCompleteEvent(card.tasks.get(taskIndex), player, card.hasBingo(player.getTeam()));
+        card.completeTask(taskIndex, player, ((BingoGame) player.getSession().phase()).getGameTime());
+        var slotEvent = new BingoCardTaskCompleteEvent(card.getTask(taskIndex), player, card.hasBingo(player.getTeam()));
         Bukkit.getPluginManager().callEvent(slotEvent);
     }
 
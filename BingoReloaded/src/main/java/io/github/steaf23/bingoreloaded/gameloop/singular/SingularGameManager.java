@@ -4,6 +4,7 @@ import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.ConfigData;
 import io.github.steaf23.bingoreloaded.data.PlayerData;
 import io.github.steaf23.bingoreloaded.event.BingoEventListener;
+import io.github.steaf23.bingoreloaded.event.PhaseEventRegistry;
 import io.github.steaf23.bingoreloaded.gameloop.SessionManager;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.gui.base.BingoMenuManager;
@@ -22,12 +23,14 @@ public class SingularGameManager implements SessionManager
     public SingularGameManager(BingoReloaded plugin) {
         this.config = plugin.config();
         this.menuManager = new BingoMenuManager(player -> canOpenMenu(player));
-        this.session = new BingoSession(this, menuManager, config.defaultWorldName, config, new PlayerData());
 
+        // The listener has to exist before the session, since the session's first phase registers its events immediately.
         this.eventListener = new BingoEventListener(world ->
-                BingoReloaded.getWorldNameOfDimension(world).equals(session.worldName) ? session : null
+                BingoReloaded.getWorldNameOfDimension(world).equals(this.session.worldName) ? this.session : null
                 , config.disableAdvancements, config.disableStatistics);
 
+        this.session = new BingoSession(this, menuManager, config.defaultWorldName, config, new PlayerData());
+
         plugin.registerCommand("bingobot", new BotCommand(session.teamManager));
 
         Bukkit.getPluginManager().registerEvents(eventListener, plugin);
@@ -56,9 +59,15 @@ public class SingularGameManager implements SessionManager
         return config;
     }
 
+    @Override
+    public PhaseEventRegistry getPhaseEvents() {
+        return eventListener.getPhaseEvents();
+    }
+
     @Override
     public void onDisable() {
         HandlerList.unregisterAll(eventListener);
+        eventListener.getPhaseEvents().unregisterAll();
     }
 
     public boolean canOpenMenu(HumanEntity player) {
@@ -1,5 +1,6 @@
 package io.github.steaf23.bingoreloaded.gui;
 
+import io.github.steaf23.bingoreloaded.cards.BingoCard;
 import io.github.steaf23.bingoreloaded.cards.CardSize;
 import io.github.steaf23.bingoreloaded.gui.base.MenuItem;
 import io.github.steaf23.bingoreloaded.gui.base.BasicMenu;
@@ -14,8 +15,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
 
-import java.util.List;
-
 public class CardMenu extends BasicMenu
 {
     private final CardSize size;
@@ -50,11 +49,11 @@ public class CardMenu extends BasicMenu
         return super.onClick(event, player, clickedItem, clickType);
     }
 
-    public void show(Player player, List<BingoTask> tasks)
+    public void show(Player player, BingoCard card)
     {
-        for (int i = 0; i < tasks.size(); i++)
+        for (int i = 0; i < card.getTaskCount(); i++)
         {
-            BingoTask task = tasks.get(i);
+            BingoTask task = card.getTask(i);
             addItem(task.asStack().copyToSlot(size.getCardInventorySlot(i)));
         }
         open(player);
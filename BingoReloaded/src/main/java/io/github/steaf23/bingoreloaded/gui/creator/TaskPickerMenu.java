@@ -17,7 +17,6 @@ import org.bukkit.inventory.ItemStack;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 public class TaskPickerMenu extends PaginatedSelectionMenu
@@ -95,7 +94,7 @@ public class TaskPickerMenu extends PaginatedSelectionMenu
         super.beforeOpening(player);
 
         BingoCardData cardsData = new BingoCardData();
-        Set<TaskData> tasks = cardsData.lists().getTasks(listName, true, true);
+        List<TaskData> tasks = cardsData.lists().getTasks(listName, true, true);
 
         for (MenuItem item : getItems()) {
             TaskData itemData = BingoTask.fromStack(item).data;
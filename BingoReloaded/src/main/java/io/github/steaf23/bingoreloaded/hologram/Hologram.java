@@ -8,11 +8,13 @@ import java.util.List;
 public class Hologram
 {
     private boolean destroyed;
+    private final Location location;
     private final List<HologramLine> lines;
 
     public Hologram(Location location, String... lines)
     {
         this.destroyed = false;
+        this.location = location;
         this.lines = new ArrayList<>();
         for (String line : lines)
         {
@@ -32,6 +34,45 @@ public class Hologram
         updateLineHeights();
     }
 
+    /**
+     * Changes the text of this hologram to the given lines, only lines that actually changed will be updated.
+     * Lines get added to or removed from the bottom of the hologram when the amount of lines changes.
+     */
+    public void setLines(List<String> newLines)
+    {
+        if (destroyed)
+            return;
+
+        int common = Math.min(lines.size(), newLines.size());
+        for (int i = 0; i < common; i++)
+        {
+            lines.get(i).setText(newLines.get(i));
+        }
+
+        if (newLines.size() == lines.size())
+            return;
+
+        while (lines.size() > newLines.size())
+        {
+            lines.remove(lines.size() - 1).remove();
+        }
+        for (int i = lines.size(); i < newLines.size(); i++)
+        {
+            lines.add(new HologramLine(location, newLines.get(i), i));
+        }
+        updateLineHeights();
+    }
+
+    public int getLineCount()
+    {
+        return lines.size();
+    }
+
+    public boolean isDestroyed()
+    {
+        return destroyed;
+    }
+
     public void updateLineHeights()
     {
         for (int i = 0; i < lines.size(); i++)
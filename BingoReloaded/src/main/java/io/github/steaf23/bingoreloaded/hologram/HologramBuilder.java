@@ -4,7 +4,9 @@ import org.bukkit.Location;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class HologramBuilder
 {
@@ -12,12 +14,16 @@ public class HologramBuilder
     private List<String> lines;
     private String id;
     private final HologramManager manager;
+    // Called with the hologram once it has been created, i.e. to keep its lines up to date.
+    private final List<Consumer<Hologram>> createListeners;
 
     public HologramBuilder(HologramManager manager)
     {
         this.id = "";
         this.manager = manager;
         this.location = null;
+        this.lines = new ArrayList<>();
+        this.createListeners = new ArrayList<>();
     }
 
     @Nullable
@@ -26,7 +32,23 @@ public class HologramBuilder
         if (id.isEmpty() || location == null || lines.size() == 0)
             return null;
 
-        return manager.create(id, location, lines.toArray(new String[]{}));
+        Hologram hologram = manager.create(id, location, lines.toArray(new String[]{}));
+        for (Consumer<Hologram> listener : createListeners)
+        {
+            listener.accept(hologram);
+        }
+        return hologram;
+    }
+
+    /**
+     * Run the given action with the hologram after it has been created.
+     * @param listener
+     * @return
+     */
+    public HologramBuilder onCreate(Consumer<Hologram> listener)
+    {
+        createListeners.add(listener);
+        return this;
     }
 
     public HologramBuilder withLocation(Location location)
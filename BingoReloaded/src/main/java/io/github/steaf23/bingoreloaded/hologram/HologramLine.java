@@ -9,6 +9,7 @@ public class HologramLine
     private final ArmorStand stand;
     private int lineNumber;
     private Location hologramLocation;
+    private String text;
 
     public HologramLine(Location location, String line, int lineNumber)
     {
@@ -20,6 +21,7 @@ public class HologramLine
         stand.setBasePlate(false);
         this.lineNumber = lineNumber;
         this.hologramLocation = location;
+        this.text = line;
     }
 
     public void move(Location newLocation)
@@ -36,9 +38,18 @@ public class HologramLine
 
     public void setText(String newText)
     {
+        if (newText.equals(text))
+            return;
+
+        text = newText;
         stand.setCustomName(newText);
     }
 
+    public String getText()
+    {
+        return text;
+    }
+
     public void remove()
     {
         stand.remove();
@@ -17,6 +17,13 @@ public interface BingoParticipant
     void setTeam(BingoTeam team);
     UUID getId();
     Optional<Player> sessionPlayer();
+    /**
+     * Same as sessionPlayer(), without wrapping the player, for use in loops that run often.
+     */
+    @Nullable
+    default Player sessionPlayerOrNull() {
+        return sessionPlayer().orElse(null);
+    }
     String getDisplayName();
     void showDeathMatchTask(BingoTask task);
     boolean alwaysActive();
@@ -44,6 +44,13 @@ public class BingoPlayer implements BingoParticipant
 
     private final int POTION_DURATION = 1728000; // 24 Hours
 
+    // Incremented whenever any player joins, quits or changes worlds, making all cached session players stale.
+    private static int sessionPlayerEpoch = 0;
+
+    // Result of the last sessionPlayer() lookup, valid as long as cachedEpoch equals sessionPlayerEpoch.
+    private Optional<Player> cachedSessionPlayer;
+    private int cachedEpoch;
+
     public BingoPlayer(Player player, BingoSession session)
     {
         this.playerId = player.getUniqueId();
@@ -51,6 +58,17 @@ public class BingoPlayer implements BingoParticipant
         this.playerName = player.getName();
         this.displayName = player.getDisplayName();
         this.itemCooldowns = new ItemCooldownManager();
+        this.cachedSessionPlayer = Optional.empty();
+        this.cachedEpoch = sessionPlayerEpoch - 1;
+    }
+
+    /**
+     * Should be called whenever a player joins or leaves the server, or moves to a different world,
+     * so that every BingoPlayer will look up its player again the next time it's needed.
+     */
+    public static void invalidateSessionPlayers()
+    {
+        sessionPlayerEpoch++;
     }
 
     /**
@@ -58,15 +76,25 @@ public class BingoPlayer implements BingoParticipant
      */
     public Optional<Player> sessionPlayer()
     {
-        if (!offline().isOnline())
-            return Optional.empty();
+        if (cachedEpoch != sessionPlayerEpoch)
+        {
+            cachedSessionPlayer = lookupSessionPlayer();
+            cachedEpoch = sessionPlayerEpoch;
+        }
+        return cachedSessionPlayer;
+    }
 
+    private Optional<Player> lookupSessionPlayer()
+    {
         Player player = Bukkit.getPlayer(playerId);
+        if (player == null)
+            return Optional.empty();
+
         if (!BingoReloaded.getWorldNameOfDimension(player.getWorld()).equals(session.worldName))
         {
             return Optional.empty();
         }
-        return Optional.ofNullable(player);
+        return Optional.of(player);
     }
 
     @Override
@@ -162,7 +162,7 @@ public class BasicTeamManager implements TeamManager
 
         automaticTeamPlayers.remove(player.getId());
 
-        if (getParticipants().contains(player)) {
+        if (activeTeams.getParticipant(player.getId()) == player) {
             player.getTeam().removeMember(player);
         } else {
             return false;
@@ -10,9 +10,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Team;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 
 public class BingoTeam
 {
@@ -25,6 +23,10 @@ public class BingoTeam
     private final String name;
 
     private Set<BingoParticipant> members;
+    private final Map<UUID, BingoParticipant> membersById;
+    // Amount of tasks completed on the current card, kept up to date by the card itself.
+    int completeCount;
+    private BingoTeamContainer container;
 
     public BingoTeam(Team team, ChatColor color, String name) {
         this.id = team.getName();
@@ -33,6 +35,9 @@ public class BingoTeam
         this.color = color;
         this.name = name;
         this.members = new HashSet<>();
+        this.membersById = new HashMap<>();
+        this.completeCount = 0;
+        this.container = null;
     }
 
     public String getIdentifier() {
@@ -52,32 +57,52 @@ public class BingoTeam
         return new ItemText(name, color, ChatColor.BOLD);
     }
 
+    /**
+     * @return an unmodifiable view of this team's members, use addMember and removeMember to change it.
+     */
     public Set<BingoParticipant> getMembers() {
-        return members;
+        return Collections.unmodifiableSet(members);
     }
 
     public void addMember(BingoParticipant player) {
-        members.add(player);
+        if (members.add(player)) {
+            membersById.put(player.getId(), player);
+            if (container != null) {
+                container.memberAdded(player);
+            }
+        }
         player.setTeam(this);
         team.addEntry(player.getDisplayName());
     }
 
     public void removeMember(BingoParticipant player) {
-        members.remove(player);
+        if (members.remove(player)) {
+            membersById.remove(player.getId(), player);
+            if (container != null) {
+                container.memberRemoved(player);
+            }
+        }
         team.removeEntry(player.getDisplayName());
     }
 
     public boolean hasMember(UUID memberId) {
-        for (BingoParticipant member : members) {
-            if (member.getId().equals(memberId)) {
-                return true;
-            }
-        }
-        return false;
+        return membersById.containsKey(memberId);
     }
 
     public int getCompleteCount() {
-        return card.getCompleteCount(this);
+        return completeCount;
+    }
+
+    public void setCompleteCount(int completeCount) {
+        if (container != null) {
+            container.updateCompleteCount(this, completeCount);
+        } else {
+            this.completeCount = completeCount;
+        }
+    }
+
+    void setContainer(BingoTeamContainer container) {
+        this.container = container;
     }
 
     public Team getScoreboardTeam()
@@ -2,18 +2,32 @@ package io.github.steaf23.bingoreloaded.player.team;
 
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
 public class BingoTeamContainer implements Iterable<BingoTeam>
 {
     private final Set<BingoTeam> teams;
+    // All teams ordered by their complete count, the team with the lowest count first.
+    private final TreeSet<BingoTeam> standings;
+    private int totalCompleteCount;
+    // Every member of every team in this container, kept up to date by BingoTeam.addMember and BingoTeam.removeMember.
+    private final Map<UUID, BingoParticipant> participants;
+    // Immutable copy of all participants, created when it's first requested after membership has changed.
+    private Set<BingoParticipant> participantSnapshot;
+
+    private static final Comparator<BingoTeam> STANDINGS_ORDER = Comparator
+            .comparingInt(BingoTeam::getCompleteCount)
+            .thenComparing(BingoTeam::getIdentifier);
 
     BingoTeamContainer() {
         teams = new HashSet<>();
+        standings = new TreeSet<>(STANDINGS_ORDER);
+        totalCompleteCount = 0;
+        participants = new HashMap<>();
+        participantSnapshot = Set.of();
     }
 
     public int teamCount() {
@@ -21,55 +35,85 @@ public class BingoTeamContainer implements Iterable<BingoTeam>
     }
 
     public void addTeam(BingoTeam team) {
-        teams.add(team);
+        if (!teams.add(team))
+            return;
+
+        team.setContainer(this);
+        standings.add(team);
+        totalCompleteCount += team.getCompleteCount();
+        team.getMembers().forEach(this::memberAdded);
+    }
+
+    /**
+     * Puts all teams back in the standings with a complete count of 0, to be used when a new game starts.
+     */
+    public void resetStandings() {
+        standings.clear();
+        for (BingoTeam team : teams) {
+            team.completeCount = 0;
+            standings.add(team);
+        }
+        totalCompleteCount = 0;
+    }
+
+    void updateCompleteCount(BingoTeam team, int completeCount) {
+        // The team has to be removed before its count changes, otherwise the tree cannot find it anymore.
+        boolean inStandings = standings.remove(team);
+        totalCompleteCount += completeCount - team.completeCount;
+        team.completeCount = completeCount;
+        if (inStandings) {
+            standings.add(team);
+        }
     }
 
     public BingoTeam getLeadingTeam() {
-        Optional<BingoTeam> leadingTeam = teams.stream().max(
-                Comparator.comparingInt(BingoTeam::getCompleteCount)
-        );
-        return leadingTeam.orElse(null);
+        return standings.isEmpty() ? null : standings.last();
     }
 
     public BingoTeam getLosingTeam() {
-        Optional<BingoTeam> losingTeam = teams.stream().min(
-                Comparator.comparingInt(BingoTeam::getCompleteCount)
-        );
-        return losingTeam.orElse(null);
+        return standings.isEmpty() ? null : standings.first();
     }
 
     public int getTotalCompleteCount()
     {
-        int count = 0;
-        for (BingoTeam team : this) {
-            count += team.getCompleteCount();
-        }
-        return count;
+        return totalCompleteCount;
     }
 
+    void memberAdded(BingoParticipant participant) {
+        participants.put(participant.getId(), participant);
+        participantSnapshot = null;
+    }
+
+    void memberRemoved(BingoParticipant participant) {
+        participants.remove(participant.getId(), participant);
+        participantSnapshot = null;
+    }
+
+    /**
+     * @return an immutable set of all members of all teams, which does not change when teams or members change afterwards.
+     */
     public Set<BingoParticipant> getAllParticipants() {
-        Set<BingoParticipant> players = new HashSet<>();
-        for (BingoTeam activeTeam : teams) {
-            players.addAll(activeTeam.getMembers());
+        if (participantSnapshot == null) {
+            participantSnapshot = Set.copyOf(participants.values());
         }
-        for (Player p : Bukkit.getOnlinePlayers()) {
-            boolean found = false;
-            for (BingoTeam t : teams) {
-                for (var player : t.getMembers()) {
-                    if (player.getId().equals(p.getUniqueId())) {
-                        players.add(player);
-                        found = true;
-                    }
-                }
-                if (found)
-                    break;
-            }
-        }
-        return players;
+        return participantSnapshot;
+    }
+
+    @Nullable
+    public BingoParticipant getParticipant(UUID participantId) {
+        return participants.get(participantId);
     }
 
     public void removeEmptyTeams() {
-        teams.removeIf(team -> team.getMembers().size() == 0);
+        teams.removeIf(team -> {
+            if (team.getMembers().size() != 0)
+                return false;
+
+            standings.remove(team);
+            totalCompleteCount -= team.getCompleteCount();
+            team.setContainer(null);
+            return true;
+        });
     }
 
     public Set<BingoTeam> getTeams()
@@ -47,12 +47,10 @@ public class SoloTeamManager implements TeamManager
 
     @Nullable
     BingoTeam getTeamOfPlayer(BingoParticipant participant) {
-        for (BingoTeam team : teams) {
-            if (team.getMembers().contains(participant)) {
-                return team;
-            }
+        if (teams.getParticipant(participant.getId()) != participant) {
+            return null;
         }
-        return null;
+        return participant.getTeam();
     }
 
     private ChatColor determineTeamColor() {
@@ -133,11 +131,12 @@ public class SoloTeamManager implements TeamManager
 
     @Override
     public boolean removeMemberFromTeam(@Nullable BingoParticipant member) {
-        for (BingoTeam team : teams) {
-            if (team.getMembers().contains(member)) {
-                team.removeMember(member);
-                team.getScoreboardTeam().unregister();
-            }
+        if (member == null) return false;
+
+        BingoTeam team = getTeamOfPlayer(member);
+        if (team != null) {
+            team.removeMember(member);
+            team.getScoreboardTeam().unregister();
         }
         teams.removeEmptyTeams();
         return false;
@@ -28,12 +28,7 @@ public interface TeamManager extends SessionMember
     {
         if (player == null) return null;
 
-        for (BingoParticipant participant : getParticipants()) {
-            if (participant.getId().equals(player.getUniqueId())) {
-                return participant;
-            }
-        }
-        return null;
+        return getActiveTeams().getParticipant(player.getUniqueId());
     }
 
     default public int getTeamCount()
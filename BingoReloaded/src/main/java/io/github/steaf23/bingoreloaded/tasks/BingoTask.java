@@ -17,6 +17,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
+import javax.annotation.Nullable;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -31,9 +32,9 @@ public class BingoTask
         ADVANCEMENT,
     }
 
-    private BingoParticipant completedBy;
-    public long completedAt;
-    private boolean voided;
+    private final BingoParticipant completedBy;
+    public final long completedAt;
+    private final boolean voided;
 
     public final TaskType type;
     public final TaskData data;
@@ -42,11 +43,19 @@ public class BingoTask
     public final boolean glowing;
 
     public BingoTask(TaskData data)
+    {
+        this(data, null, -1L, false);
+    }
+
+    /**
+     * Creates a task with the given progress, cards keep their progress themselves and use this to show or pass on a task.
+     */
+    public BingoTask(TaskData data, @Nullable BingoParticipant completedBy, long completedAt, boolean voided)
     {
         this.data = data;
-        this.completedBy = null;
-        this.voided = false;
-        this.completedAt = -1L;
+        this.completedBy = completedBy;
+        this.voided = voided;
+        this.completedAt = completedAt;
 
         if (data instanceof ItemTask itemTask)
         {
@@ -79,14 +88,6 @@ public class BingoTask
         }
     }
 
-    public void setVoided(boolean value)
-    {
-        if (isCompleted())
-            return;
-
-        voided = value;
-    }
-
     public boolean isVoided()
     {
         return voided;
@@ -197,18 +198,15 @@ public class BingoTask
         }
 
         type = TaskType.valueOf(typeStr);
-        BingoTask task = switch (type)
+        TaskData data = switch (type)
         {
-            case ADVANCEMENT -> new BingoTask(AdvancementTask.fromPdc(pdcData));
-            case STATISTIC -> new BingoTask(StatisticTask.fromPdc(pdcData));
-            default -> new BingoTask(ItemTask.fromPdc(pdcData));
+            case ADVANCEMENT -> AdvancementTask.fromPdc(pdcData);
+            case STATISTIC -> StatisticTask.fromPdc(pdcData);
+            default -> ItemTask.fromPdc(pdcData);
         };
 
-        task.voided = voided;
-        task.completedAt = timeStr;
         //TODO: implement completedBy deserialization (need access to teamManager to get participant object).
-
-        return task;
+        return new BingoTask(data, null, timeStr, voided);
     }
 
     public static NamespacedKey getTaskDataKey(String property)
@@ -216,16 +214,6 @@ public class BingoTask
         return PDCHelper.createKey("task." + property);
     }
 
-    public boolean complete(BingoParticipant participant, long gameTime)
-    {
-        if (isCompleted())
-            return false;
-
-        completedBy = participant;
-        completedAt = gameTime;
-        return true;
-    }
-
     public BingoTask copy()
     {
         return new BingoTask(data);
@@ -0,0 +1,109 @@
+package io.github.steaf23.bingoreloaded.tasks.statistics;
+
+import io.github.steaf23.bingoreloaded.BingoReloaded;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Periodically reads statistics that are not updated by the PlayerStatisticIncrementEvent.
+ * Instead of reading all of them at once every second, reads are spread out over every tick with a maximum amount of reads per tick.
+ * Statistics that did not change since the last read will be read less often, until they change again.
+ */
+public class StatisticPoller
+{
+    // Amount of ticks between reads of a statistic that keeps changing.
+    public static final int BASE_INTERVAL = BingoReloaded.ONE_SECOND;
+    // Maximum amount of ticks between reads of a statistic that did not change for a while.
+    public static final int MAX_INTERVAL = BingoReloaded.ONE_SECOND * 4;
+
+    private static class ScheduledPoll
+    {
+        final StatisticProgress progress;
+        long nextTick;
+        int interval;
+
+        ScheduledPoll(StatisticProgress progress, long nextTick) {
+            this.progress = progress;
+            this.nextTick = nextTick;
+            this.interval = BASE_INTERVAL;
+        }
+    }
+
+    private final int pollsPerTick;
+    private final Consumer<StatisticProgress> completedCallback;
+    private final PriorityQueue<ScheduledPoll> queue;
+    private BukkitTask task;
+    private long currentTick;
+    private int pollsAdded;
+
+    /**
+     * @param pollsPerTick maximum amount of statistics to read in a single tick.
+     * @param completedCallback called when a statistic has been completed after reading it.
+     */
+    public StatisticPoller(int pollsPerTick, Consumer<StatisticProgress> completedCallback) {
+        this.pollsPerTick = Math.max(1, pollsPerTick);
+        this.completedCallback = completedCallback;
+        this.queue = new PriorityQueue<>(Comparator.comparingLong(poll -> poll.nextTick));
+        this.task = null;
+        this.currentTick = 0;
+        this.pollsAdded = 0;
+    }
+
+    public void add(StatisticProgress progress) {
+        // Spread new statistics evenly over the ticks of a single interval.
+        queue.add(new ScheduledPoll(progress, currentTick + 1 + (pollsAdded % BASE_INTERVAL)));
+        pollsAdded++;
+    }
+
+    public void start() {
+        if (task != null)
+            return;
+
+        task = Bukkit.getScheduler().runTaskTimer(BingoReloaded.getInstance(), this::tick, 1, 1);
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queue.clear();
+        currentTick = 0;
+        pollsAdded = 0;
+    }
+
+    private void tick() {
+        currentTick++;
+        int polls = 0;
+        while (polls < pollsPerTick && !queue.isEmpty() && queue.peek().nextTick <= currentTick) {
+            ScheduledPoll poll = queue.poll();
+            StatisticProgress progress = poll.progress;
+            if (progress.done())
+                continue;
+
+            int previousProgress = progress.previousGlobalProgress;
+            progress.updatePeriodicProgress();
+            polls++;
+
+            if (progress.done()) {
+                completedCallback.accept(progress);
+                // Completing a statistic can end the game, which stops this poller.
+                if (task == null)
+                    return;
+                continue;
+            }
+
+            if (progress.previousGlobalProgress == previousProgress) {
+                poll.interval = Math.min(MAX_INTERVAL, poll.interval * 2);
+            } else {
+                poll.interval = BASE_INTERVAL;
+            }
+            poll.nextTick = currentTick + poll.interval;
+            queue.add(poll);
+        }
+    }
+}
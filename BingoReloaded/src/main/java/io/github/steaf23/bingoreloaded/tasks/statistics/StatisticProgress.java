@@ -41,7 +41,7 @@ public class StatisticProgress
         if (statistic.isStatisticProcessed())
             return;
 
-        if (!player.sessionPlayer().isPresent())
+        if (player.sessionPlayerOrNull() == null)
             return;
 
         int newProgress = getPlayerTotalScore();
@@ -66,11 +66,10 @@ public class StatisticProgress
 
     public int getPlayerTotalScore()
     {
-        if (player.sessionPlayer().isEmpty())
+        Player gamePlayer = player.sessionPlayerOrNull();
+        if (gamePlayer == null)
             return 0;
 
-        Player gamePlayer = player.sessionPlayer().get();
-
         int value = 0;
         if (statistic.hasMaterialComponent())
         {
@@ -89,11 +88,10 @@ public class StatisticProgress
 
     public void setPlayerTotalScore(int value)
     {
-        if (player.sessionPlayer().isEmpty())
+        Player gamePlayer = player.sessionPlayerOrNull();
+        if (gamePlayer == null)
             return;
 
-        Player gamePlayer = player.sessionPlayer().get();
-
         if (statistic.hasMaterialComponent())
         {
             gamePlayer.setStatistic(statistic.stat(), statistic.materialType(), value);
@@ -5,44 +5,51 @@ import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.player.BingoPlayer;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeamContainer;
-import io.github.steaf23.bingoreloaded.tasks.BingoTask;
 import io.github.steaf23.bingoreloaded.tasks.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskData;
 import org.bukkit.event.player.PlayerStatisticIncrementEvent;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
 
 public class StatisticTracker
 {
-    private final List<StatisticProgress> statistics;
+    // Progress of every tracked statistic, indexed per player so that a single increment only needs 2 hash lookups.
+    private final Map<UUID, Map<BingoStatistic, StatisticProgress>> statistics;
     private final String worldName;
+    private final StatisticPoller poller;
 
-    public StatisticTracker(String worldName)
+    public StatisticTracker(String worldName, int pollsPerTick)
     {
-        this.statistics = new ArrayList<>();
+        this.statistics = new HashMap<>();
         this.worldName = worldName;
+        this.poller = new StatisticPoller(pollsPerTick, this::removeProgress);
     }
 
     public void start(BingoTeamContainer teams)
     {
         for (BingoTeam team : teams)
         {
-            for (BingoTask task : team.card.tasks)
+            for (TaskData task : team.card.getLayout().tasks)
             {
-                if (task.type != BingoTask.TaskType.STATISTIC)
+                if (!(task instanceof StatisticTask statTask))
                     continue;
 
-                StatisticTask statTask = (StatisticTask)task.data;
-
                 for (BingoParticipant player : team.getMembers())
                 {
-                    if (statistics.stream().anyMatch(progress ->
-                            progress.player.equals(player) && progress.statistic.equals(statTask.statistic())))
+                    if (!(player instanceof BingoPlayer bingoPlayer))
+                        continue;
+
+                    Map<BingoStatistic, StatisticProgress> playerStatistics = statistics.computeIfAbsent(bingoPlayer.getId(), id -> new HashMap<>());
+                    if (playerStatistics.containsKey(statTask.statistic()))
                         continue;
 
-                    if (player instanceof BingoPlayer bingoPlayer)
-                        statistics.add(new StatisticProgress(statTask.statistic(), bingoPlayer, statTask.count()));
+                    StatisticProgress progress = new StatisticProgress(statTask.statistic(), bingoPlayer, statTask.count());
+                    playerStatistics.put(statTask.statistic(), progress);
+                    if (!progress.statistic.isStatisticProcessed())
+                        poller.add(progress);
                 }
             }
         }
@@ -50,23 +57,24 @@ public class StatisticTracker
 
     public double getProgressLeft(BingoPlayer player, BingoStatistic statistic)
     {
-        List<StatisticProgress> statProgress = statistics.stream().filter(progress ->
-                progress.player.equals(player) && progress.statistic.equals(statistic)).collect(Collectors.toList());
-
-        if (statProgress.size() != 1)
+        StatisticProgress progress = getProgress(player.getId(), statistic);
+        if (progress == null)
             return Double.MAX_VALUE;
 
-        return statProgress.get(0).progressLeft;
+        return progress.progressLeft;
     }
 
-    public void updateProgress()
+    /**
+     * Start reading statistics that don't get updated by the PlayerStatisticIncrementEvent.
+     */
+    public void startPolling()
     {
-        statistics.forEach(StatisticProgress::updatePeriodicProgress);
-        statistics.removeIf(progress -> progress.progressLeft <= 0);
+        poller.start();
     }
 
     public void reset()
     {
+        poller.stop();
         statistics.clear();
     }
 
@@ -75,23 +83,44 @@ public class StatisticTracker
         if (game == null)
             return;
 
-        BingoParticipant player = game.getTeamManager().getPlayerAsParticipant(event.getPlayer());
-        if (player == null || !player.sessionPlayer().isPresent())
+        Map<BingoStatistic, StatisticProgress> playerStatistics = statistics.get(event.getPlayer().getUniqueId());
+        if (playerStatistics == null)
             return;
 
-        BingoTeam team = player.getTeam();
-        if (team == null)
+        BingoStatistic stat = new BingoStatistic(event.getStatistic(), event.getEntityType(), event.getMaterial());
+        StatisticProgress progress = playerStatistics.get(stat);
+        if (progress == null)
             return;
 
-        BingoStatistic stat = new BingoStatistic(event.getStatistic(), event.getEntityType(), event.getMaterial());
+        BingoPlayer player = progress.player;
+        if (player.sessionPlayerOrNull() == null || player.getTeam() == null)
+            return;
 
-        List<StatisticProgress> matchingStatistic = statistics.stream().filter(progress ->
-                progress.player.equals(player) && progress.statistic.equals(stat)).collect(Collectors.toList());
-        if (matchingStatistic.size() == 1)
+        progress.setProgress(event.getNewValue());
+        if (progress.done())
         {
-            matchingStatistic.get(0).setProgress(event.getNewValue());
+            removeProgress(progress);
         }
+    }
+
+    private void removeProgress(StatisticProgress progress)
+    {
+        Map<BingoStatistic, StatisticProgress> playerStatistics = statistics.get(progress.player.getId());
+        if (playerStatistics == null)
+            return;
+
+        playerStatistics.remove(progress.statistic);
+        if (playerStatistics.isEmpty())
+            statistics.remove(progress.player.getId());
+    }
+
+    @Nullable
+    private StatisticProgress getProgress(UUID playerId, BingoStatistic statistic)
+    {
+        Map<BingoStatistic, StatisticProgress> playerStatistics = statistics.get(playerId);
+        if (playerStatistics == null)
+            return null;
 
-        statistics.removeIf(progress -> progress.progressLeft <= 0);
+        return playerStatistics.get(statistic);
     }
 }